@@ -16,7 +16,10 @@
 
 package jakarta.enterprise.concurrent;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -24,8 +27,20 @@ import java.util.concurrent.Executor;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleSupplier;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * The ContextService provides methods for creating dynamic proxy objects
@@ -63,6 +78,9 @@ import java.util.function.Supplier;
  *     components can store arbitrary property keys and values, it is not
  *     recommended. Jakarta EE product providers may impose limits to the
  *     size of the keys and values.
+ * <li>When the {@link ManagedTask#DIRECT_PROXY_HINT DIRECT_PROXY_HINT} execution property
+ *     is "true", the proxy instance may be an instance of a generated class
+ *     that invokes methods directly rather than a {@code java.lang.reflect.Proxy}.
  * </ul>
  * <p>
  * For example, to contextualize a single completion stage action
@@ -198,6 +216,48 @@ public interface ContextService {
    */
   public Runnable contextualRunnable(Runnable runnable);
 
+  /**
+   * <p>Wraps each of the supplied {@link java.lang.Runnable Runnables} with context
+   * that is captured once from the thread that invokes <code>contextualRunnables</code>
+   * and shared, read-only, by all of the returned proxy instances.
+   * Context is captured at the time <code>contextualRunnables</code> is invoked.
+   * This avoids capturing the same context repeatedly when many tasks are contextualized
+   * at once, such as before submitting a large batch of tasks to an executor.</p>
+   *
+   * <p>When <code>run</code> is invoked on any of the proxy instances,
+   * context is first established on the thread that will run the <code>run</code> method,
+   * then the <code>run</code> method of the respective <code>Runnable</code> is invoked.
+   * Finally, the previous context is restored on the thread, and control is returned to the invoker.</p>
+   *
+   * <p>Example usage:</p>
+   * <pre>
+   * <code>for (Runnable task : contextSvc.contextualRunnables(tasks))
+   *     forkJoinPool.execute(task);
+   * </code></pre>
+   *
+   * <p>The default implementation captures context with a single invocation of
+   * {@link #currentContextExecutor()} and returns proxy instances that run the supplied
+   * <code>Runnables</code> with the resulting executor. The default implementation
+   * does not detect already-contextualized <code>Runnables</code>.</p>
+   *
+   * @param runnables instances to contextualize.
+   * @return unmodifiable list of contextualized proxy instances, in the same order as the
+   *         supplied <code>Runnables</code>.
+   * @throws IllegalArgumentException if an already-contextualized <code>Runnable</code> is supplied to this method.
+   * @throws NullPointerException if the collection or any of its elements is null.
+   * @since 3.1
+   */
+  public default List<Runnable> contextualRunnables(Collection<? extends Runnable> runnables) {
+    Runnable[] proxies = new Runnable[runnables.size()];
+    Executor contextSnapshot = currentContextExecutor();
+    int i = 0;
+    for (Runnable runnable : runnables) {
+      Objects.requireNonNull(runnable);
+      proxies[i++] = () -> contextSnapshot.execute(runnable);
+    }
+    return List.of(proxies);
+  }
+
   /**
    * <p>Wraps a {@link java.util.function.Supplier} with context captured from the thread that invokes
    * <code>contextualSupplier</code>. Context is captured at the time <code>contextualSupplier</code> is invoked.</p>
@@ -216,6 +276,360 @@ public interface ContextService {
    */
   public <R> Supplier<R> contextualSupplier(Supplier<R> supplier);
 
+  /**
+   * <p>Wraps a {@link java.util.function.DoubleConsumer} with context
+   * that is captured from the thread that invokes
+   * <code>contextualDoubleConsumer</code>.
+   * Context is captured at the time <code>contextualDoubleConsumer</code> is invoked.</p>
+   *
+   * <p>When <code>accept</code> is invoked on the proxy instance,
+   * context is first established on the thread that will run the <code>accept</code> method,
+   * then the <code>accept</code> method of the provided <code>DoubleConsumer</code> is invoked.
+   * Finally, the previous context is restored on the thread, and control is returned to the invoker.</p>
+   *
+   * <p>The default implementation captures context with {@link #currentContextExecutor()}
+   * and runs each invocation with the resulting executor, which allocates a lambda
+   * per invocation. Jakarta EE Product Providers can override it to apply context directly.</p>
+   *
+   * @param consumer instance to contextualize.
+   * @return contextualized proxy instance that wraps execution of the <code>accept</code> method with context.
+   * @since 3.1
+   */
+  public default DoubleConsumer contextualDoubleConsumer(DoubleConsumer consumer) {
+    Executor contextSnapshot = currentContextExecutor();
+    return value -> contextSnapshot.execute(() -> consumer.accept(value));
+  }
+
+  /**
+   * <p>Wraps a {@link java.util.function.DoubleFunction} with context
+   * that is captured from the thread that invokes
+   * <code>contextualDoubleFunction</code>.
+   * Context is captured at the time <code>contextualDoubleFunction</code> is invoked.</p>
+   *
+   * <p>When <code>apply</code> is invoked on the proxy instance,
+   * context is first established on the thread that will run the <code>apply</code> method,
+   * then the <code>apply</code> method of the provided <code>DoubleFunction</code> is invoked.
+   * Finally, the previous context is restored on the thread, and the result of the
+   * <code>DoubleFunction</code> is returned to the invoker.</p>
+   *
+   * <p>The default implementation captures context with {@link #currentContextExecutor()}
+   * and runs each invocation with the resulting executor, which allocates a lambda and a
+   * single-element array for the result per invocation. Jakarta EE Product Providers
+   * can override it to apply context directly.</p>
+   *
+   * @param <R> function result type.
+   * @param function instance to contextualize.
+   * @return contextualized proxy instance that wraps execution of the <code>apply</code> method with context.
+   * @since 3.1
+   */
+  public default <R> DoubleFunction<R> contextualDoubleFunction(DoubleFunction<R> function) {
+    Executor contextSnapshot = currentContextExecutor();
+    return value -> {
+      Object[] result = new Object[1];
+      contextSnapshot.execute(() -> result[0] = function.apply(value));
+      @SuppressWarnings("unchecked")
+      R r = (R) result[0];
+      return r;
+    };
+  }
+
+  /**
+   * <p>Wraps a {@link java.util.function.DoubleSupplier} with context
+   * that is captured from the thread that invokes
+   * <code>contextualDoubleSupplier</code>.
+   * Context is captured at the time <code>contextualDoubleSupplier</code> is invoked.</p>
+   *
+   * <p>When <code>getAsDouble</code> is invoked on the proxy instance,
+   * context is first established on the thread that will run the <code>getAsDouble</code> method,
+   * then the <code>getAsDouble</code> method of the provided <code>DoubleSupplier</code> is invoked.
+   * Finally, the previous context is restored on the thread, and the result of the
+   * <code>DoubleSupplier</code> is returned to the invoker.</p>
+   *
+   * <p>The default implementation captures context with {@link #currentContextExecutor()}
+   * and runs each invocation with the resulting executor, which allocates a lambda and a
+   * single-element array for the result per invocation. Jakarta EE Product Providers
+   * can override it to apply context directly.</p>
+   *
+   * @param supplier instance to contextualize.
+   * @return contextualized proxy instance that wraps execution of the <code>getAsDouble</code> method with context.
+   * @since 3.1
+   */
+  public default DoubleSupplier contextualDoubleSupplier(DoubleSupplier supplier) {
+    Executor contextSnapshot = currentContextExecutor();
+    return () -> {
+      double[] result = new double[1];
+      contextSnapshot.execute(() -> result[0] = supplier.getAsDouble());
+      return result[0];
+    };
+  }
+
+  /**
+   * <p>Wraps a {@link java.util.function.IntConsumer} with context
+   * that is captured from the thread that invokes
+   * <code>contextualIntConsumer</code>.
+   * Context is captured at the time <code>contextualIntConsumer</code> is invoked.</p>
+   *
+   * <p>When <code>accept</code> is invoked on the proxy instance,
+   * context is first established on the thread that will run the <code>accept</code> method,
+   * then the <code>accept</code> method of the provided <code>IntConsumer</code> is invoked.
+   * Finally, the previous context is restored on the thread, and control is returned to the invoker.</p>
+   *
+   * <p>The default implementation captures context with {@link #currentContextExecutor()}
+   * and runs each invocation with the resulting executor, which allocates a lambda
+   * per invocation. Jakarta EE Product Providers can override it to apply context directly.</p>
+   *
+   * @param consumer instance to contextualize.
+   * @return contextualized proxy instance that wraps execution of the <code>accept</code> method with context.
+   * @since 3.1
+   */
+  public default IntConsumer contextualIntConsumer(IntConsumer consumer) {
+    Executor contextSnapshot = currentContextExecutor();
+    return value -> contextSnapshot.execute(() -> consumer.accept(value));
+  }
+
+  /**
+   * <p>Wraps a {@link java.util.function.IntFunction} with context
+   * that is captured from the thread that invokes
+   * <code>contextualIntFunction</code>.
+   * Context is captured at the time <code>contextualIntFunction</code> is invoked.</p>
+   *
+   * <p>When <code>apply</code> is invoked on the proxy instance,
+   * context is first established on the thread that will run the <code>apply</code> method,
+   * then the <code>apply</code> method of the provided <code>IntFunction</code> is invoked.
+   * Finally, the previous context is restored on the thread, and the result of the
+   * <code>IntFunction</code> is returned to the invoker.</p>
+   *
+   * <p>The default implementation captures context with {@link #currentContextExecutor()}
+   * and runs each invocation with the resulting executor, which allocates a lambda and a
+   * single-element array for the result per invocation. Jakarta EE Product Providers
+   * can override it to apply context directly.</p>
+   *
+   * @param <R> function result type.
+   * @param function instance to contextualize.
+   * @return contextualized proxy instance that wraps execution of the <code>apply</code> method with context.
+   * @since 3.1
+   */
+  public default <R> IntFunction<R> contextualIntFunction(IntFunction<R> function) {
+    Executor contextSnapshot = currentContextExecutor();
+    return value -> {
+      Object[] result = new Object[1];
+      contextSnapshot.execute(() -> result[0] = function.apply(value));
+      @SuppressWarnings("unchecked")
+      R r = (R) result[0];
+      return r;
+    };
+  }
+
+  /**
+   * <p>Wraps a {@link java.util.function.IntSupplier} with context
+   * that is captured from the thread that invokes
+   * <code>contextualIntSupplier</code>.
+   * Context is captured at the time <code>contextualIntSupplier</code> is invoked.</p>
+   *
+   * <p>When <code>getAsInt</code> is invoked on the proxy instance,
+   * context is first established on the thread that will run the <code>getAsInt</code> method,
+   * then the <code>getAsInt</code> method of the provided <code>IntSupplier</code> is invoked.
+   * Finally, the previous context is restored on the thread, and the result of the
+   * <code>IntSupplier</code> is returned to the invoker.</p>
+   *
+   * <p>The default implementation captures context with {@link #currentContextExecutor()}
+   * and runs each invocation with the resulting executor, which allocates a lambda and a
+   * single-element array for the result per invocation. Jakarta EE Product Providers
+   * can override it to apply context directly.</p>
+   *
+   * @param supplier instance to contextualize.
+   * @return contextualized proxy instance that wraps execution of the <code>getAsInt</code> method with context.
+   * @since 3.1
+   */
+  public default IntSupplier contextualIntSupplier(IntSupplier supplier) {
+    Executor contextSnapshot = currentContextExecutor();
+    return () -> {
+      int[] result = new int[1];
+      contextSnapshot.execute(() -> result[0] = supplier.getAsInt());
+      return result[0];
+    };
+  }
+
+  /**
+   * <p>Wraps a {@link java.util.function.LongConsumer} with context
+   * that is captured from the thread that invokes
+   * <code>contextualLongConsumer</code>.
+   * Context is captured at the time <code>contextualLongConsumer</code> is invoked.</p>
+   *
+   * <p>When <code>accept</code> is invoked on the proxy instance,
+   * context is first established on the thread that will run the <code>accept</code> method,
+   * then the <code>accept</code> method of the provided <code>LongConsumer</code> is invoked.
+   * Finally, the previous context is restored on the thread, and control is returned to the invoker.</p>
+   *
+   * <p>The default implementation captures context with {@link #currentContextExecutor()}
+   * and runs each invocation with the resulting executor, which allocates a lambda
+   * per invocation. Jakarta EE Product Providers can override it to apply context directly.</p>
+   *
+   * @param consumer instance to contextualize.
+   * @return contextualized proxy instance that wraps execution of the <code>accept</code> method with context.
+   * @since 3.1
+   */
+  public default LongConsumer contextualLongConsumer(LongConsumer consumer) {
+    Executor contextSnapshot = currentContextExecutor();
+    return value -> contextSnapshot.execute(() -> consumer.accept(value));
+  }
+
+  /**
+   * <p>Wraps a {@link java.util.function.LongFunction} with context
+   * that is captured from the thread that invokes
+   * <code>contextualLongFunction</code>.
+   * Context is captured at the time <code>contextualLongFunction</code> is invoked.</p>
+   *
+   * <p>When <code>apply</code> is invoked on the proxy instance,
+   * context is first established on the thread that will run the <code>apply</code> method,
+   * then the <code>apply</code> method of the provided <code>LongFunction</code> is invoked.
+   * Finally, the previous context is restored on the thread, and the result of the
+   * <code>LongFunction</code> is returned to the invoker.</p>
+   *
+   * <p>The default implementation captures context with {@link #currentContextExecutor()}
+   * and runs each invocation with the resulting executor, which allocates a lambda and a
+   * single-element array for the result per invocation. Jakarta EE Product Providers
+   * can override it to apply context directly.</p>
+   *
+   * @param <R> function result type.
+   * @param function instance to contextualize.
+   * @return contextualized proxy instance that wraps execution of the <code>apply</code> method with context.
+   * @since 3.1
+   */
+  public default <R> LongFunction<R> contextualLongFunction(LongFunction<R> function) {
+    Executor contextSnapshot = currentContextExecutor();
+    return value -> {
+      Object[] result = new Object[1];
+      contextSnapshot.execute(() -> result[0] = function.apply(value));
+      @SuppressWarnings("unchecked")
+      R r = (R) result[0];
+      return r;
+    };
+  }
+
+  /**
+   * <p>Wraps a {@link java.util.function.LongSupplier} with context
+   * that is captured from the thread that invokes
+   * <code>contextualLongSupplier</code>.
+   * Context is captured at the time <code>contextualLongSupplier</code> is invoked.</p>
+   *
+   * <p>When <code>getAsLong</code> is invoked on the proxy instance,
+   * context is first established on the thread that will run the <code>getAsLong</code> method,
+   * then the <code>getAsLong</code> method of the provided <code>LongSupplier</code> is invoked.
+   * Finally, the previous context is restored on the thread, and the result of the
+   * <code>LongSupplier</code> is returned to the invoker.</p>
+   *
+   * <p>The default implementation captures context with {@link #currentContextExecutor()}
+   * and runs each invocation with the resulting executor, which allocates a lambda and a
+   * single-element array for the result per invocation. Jakarta EE Product Providers
+   * can override it to apply context directly.</p>
+   *
+   * @param supplier instance to contextualize.
+   * @return contextualized proxy instance that wraps execution of the <code>getAsLong</code> method with context.
+   * @since 3.1
+   */
+  public default LongSupplier contextualLongSupplier(LongSupplier supplier) {
+    Executor contextSnapshot = currentContextExecutor();
+    return () -> {
+      long[] result = new long[1];
+      contextSnapshot.execute(() -> result[0] = supplier.getAsLong());
+      return result[0];
+    };
+  }
+
+  /**
+   * <p>Wraps a {@link java.util.function.ToDoubleFunction} with context
+   * that is captured from the thread that invokes
+   * <code>contextualToDoubleFunction</code>.
+   * Context is captured at the time <code>contextualToDoubleFunction</code> is invoked.</p>
+   *
+   * <p>When <code>applyAsDouble</code> is invoked on the proxy instance,
+   * context is first established on the thread that will run the <code>applyAsDouble</code> method,
+   * then the <code>applyAsDouble</code> method of the provided <code>ToDoubleFunction</code> is invoked.
+   * Finally, the previous context is restored on the thread, and the result of the
+   * <code>ToDoubleFunction</code> is returned to the invoker.</p>
+   *
+   * <p>The default implementation captures context with {@link #currentContextExecutor()}
+   * and runs each invocation with the resulting executor, which allocates a lambda and a
+   * single-element array for the result per invocation. Jakarta EE Product Providers
+   * can override it to apply context directly.</p>
+   *
+   * @param <T> type of parameter to function.
+   * @param function instance to contextualize.
+   * @return contextualized proxy instance that wraps execution of the <code>applyAsDouble</code> method with context.
+   * @since 3.1
+   */
+  public default <T> ToDoubleFunction<T> contextualToDoubleFunction(ToDoubleFunction<T> function) {
+    Executor contextSnapshot = currentContextExecutor();
+    return value -> {
+      double[] result = new double[1];
+      contextSnapshot.execute(() -> result[0] = function.applyAsDouble(value));
+      return result[0];
+    };
+  }
+
+  /**
+   * <p>Wraps a {@link java.util.function.ToIntFunction} with context
+   * that is captured from the thread that invokes
+   * <code>contextualToIntFunction</code>.
+   * Context is captured at the time <code>contextualToIntFunction</code> is invoked.</p>
+   *
+   * <p>When <code>applyAsInt</code> is invoked on the proxy instance,
+   * context is first established on the thread that will run the <code>applyAsInt</code> method,
+   * then the <code>applyAsInt</code> method of the provided <code>ToIntFunction</code> is invoked.
+   * Finally, the previous context is restored on the thread, and the result of the
+   * <code>ToIntFunction</code> is returned to the invoker.</p>
+   *
+   * <p>The default implementation captures context with {@link #currentContextExecutor()}
+   * and runs each invocation with the resulting executor, which allocates a lambda and a
+   * single-element array for the result per invocation. Jakarta EE Product Providers
+   * can override it to apply context directly.</p>
+   *
+   * @param <T> type of parameter to function.
+   * @param function instance to contextualize.
+   * @return contextualized proxy instance that wraps execution of the <code>applyAsInt</code> method with context.
+   * @since 3.1
+   */
+  public default <T> ToIntFunction<T> contextualToIntFunction(ToIntFunction<T> function) {
+    Executor contextSnapshot = currentContextExecutor();
+    return value -> {
+      int[] result = new int[1];
+      contextSnapshot.execute(() -> result[0] = function.applyAsInt(value));
+      return result[0];
+    };
+  }
+
+  /**
+   * <p>Wraps a {@link java.util.function.ToLongFunction} with context
+   * that is captured from the thread that invokes
+   * <code>contextualToLongFunction</code>.
+   * Context is captured at the time <code>contextualToLongFunction</code> is invoked.</p>
+   *
+   * <p>When <code>applyAsLong</code> is invoked on the proxy instance,
+   * context is first established on the thread that will run the <code>applyAsLong</code> method,
+   * then the <code>applyAsLong</code> method of the provided <code>ToLongFunction</code> is invoked.
+   * Finally, the previous context is restored on the thread, and the result of the
+   * <code>ToLongFunction</code> is returned to the invoker.</p>
+   *
+   * <p>The default implementation captures context with {@link #currentContextExecutor()}
+   * and runs each invocation with the resulting executor, which allocates a lambda and a
+   * single-element array for the result per invocation. Jakarta EE Product Providers
+   * can override it to apply context directly.</p>
+   *
+   * @param <T> type of parameter to function.
+   * @param function instance to contextualize.
+   * @return contextualized proxy instance that wraps execution of the <code>applyAsLong</code> method with context.
+   * @since 3.1
+   */
+  public default <T> ToLongFunction<T> contextualToLongFunction(ToLongFunction<T> function) {
+    Executor contextSnapshot = currentContextExecutor();
+    return value -> {
+      long[] result = new long[1];
+      contextSnapshot.execute(() -> result[0] = function.applyAsLong(value));
+      return result[0];
+    };
+  }
+
   /**
    * Creates a new contextual object proxy for the input object instance.
    * <p>
@@ -531,4 +945,42 @@ public interface ContextService {
    * @since 3.0
    */
   public <T> CompletionStage<T> withContextCapture(CompletionStage<T> stage);
+
+  /**
+   * <p>Returns a <code>ContextService</code> with the same configuration as this one,
+   * except that context which it propagates is captured lazily. The contextual proxies,
+   * tasks, and actions that it creates capture only an immutable token from the
+   * requesting thread, for each context type that allows deferring,
+   * and obtain the full context from the token only if and when they run.
+   * This avoids the cost of capturing context for contextual actions, such as
+   * those on short-circuited branches of a completion stage pipeline,
+   * that are created but never run.</p>
+   *
+   * <p>Deferring does not change the context with which contextual proxies, tasks,
+   * and actions run. Only context types where an immutable token fully determines the context
+   * that is applied, regardless of subsequent changes to the requesting thread, can be deferred.
+   * Of the context types that are defined by the Jakarta EE Concurrency specification,
+   * {@link ContextServiceDefinition#APPLICATION Application} context can be deferred,
+   * whereas {@link ContextServiceDefinition#SECURITY Security} and
+   * {@link ContextServiceDefinition#TRANSACTION Transaction} context are always captured at
+   * creation. Third-party context types allow deferring when their
+   * {@link jakarta.enterprise.concurrent.spi.ThreadContextProvider ThreadContextProvider}
+   * implements {@link jakarta.enterprise.concurrent.spi.ThreadContextProvider#deferredContext
+   * deferredContext}. Context that is cleared or left unchanged is not affected.</p>
+   *
+   * <p>Example usage:</p>
+   * <pre>
+   * <code>ContextService deferred = contextSvc.withDeferredCapture();
+   * stage2 = stage1.thenApply(deferred.contextualFunction(this::lookUp));
+   * </code></pre>
+   *
+   * <p>The default implementation returns this <code>ContextService</code>, which captures all
+   * context when contextual proxies, tasks, and actions are created.</p>
+   *
+   * @return a <code>ContextService</code> that defers capturing context where possible.
+   * @since 3.1
+   */
+  public default ContextService withDeferredCapture() {
+    return this;
+  }
 }
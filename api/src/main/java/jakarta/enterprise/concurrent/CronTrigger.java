@@ -18,16 +18,23 @@ package jakarta.enterprise.concurrent;
 
 import java.time.DateTimeException;
 import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDateTime;
 import java.time.Month;
 import java.time.Year;
 import java.time.ZonedDateTime;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.SortedSet;
-import java.util.TreeSet;
-import java.util.function.Function;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * <p>Cron-based {@link Trigger} implementation, which supports 5 or 6 fields
@@ -105,6 +112,12 @@ import java.util.function.Function;
  * happens before it is supplied to a {@link ManagedScheduledExecutorService} and that the
  * <code>CronTrigger</code> is not subsequently modified.
  * <p>
+ * Where many tasks share the same cron expressions, the {@link #of(String, ZoneId) of} method
+ * obtains a shared, unmodifiable <code>CronTrigger</code> for each distinct cron expression and timezone:
+ * <pre>
+ * trigger = CronTrigger.of("0 0 * * *", ZoneId.of("America/New_York"));
+ * </pre>
+ * <p>
  * You can subclass <code>CronTrigger</code> to provide for more complex logic, such as in the following
  * example of combining two triggers to schedule twice-a-month payroll on the 15th and last day of month
  * or the prior Fridays when the former fall on a weekend:
@@ -132,40 +145,36 @@ import java.util.function.Function;
  * @since 3.0
  */
 public class CronTrigger implements ZonedTrigger {
-    private static final Map<String, Integer> DAYS_OF_WEEK = new HashMap<String, Integer>(7);
-    private static final Map<String, Integer> MONTHS = new HashMap<String, Integer>(12);
-    static {
-        for (DayOfWeek day : DayOfWeek.values()) {
-            DAYS_OF_WEEK.put(day.name().substring(0, 3), day.getValue());
-        }
-        for (Month month : Month.values()) {
-            MONTHS.put(month.name().substring(0, 3), month.getValue());
-        }
-    }
-
-    private static final int[] ALL_DAYS_OF_MONTH = new int[] {
-            1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20,
-            21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31
-    };
-    private static final int[] ALL_DAYS_OF_WEEK = new int[] {
-            1, 2, 3, 4, 5, 6, 7
-    };
-    private static final int[] ALL_MONTHS = new int[] {
-            1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12
-    };
+    private static final long ALL_DAYS_OF_MONTH = 0xFFFFFFFEL; // 1-31
+    private static final long ALL_DAYS_OF_WEEK = 0xFEL; // 1-7
+    private static final long ALL_MONTHS = 0x1FFEL; // 1-12
     private static final int LAST = -1;
-    private static final int[] ZERO = new int[] {
-            0
-    };
-
-    // cron expression fields are parsed into lists
-    private int[] daysOfMonth = ALL_DAYS_OF_MONTH;
-    private int[] daysOfWeek = ALL_DAYS_OF_WEEK;
-    private int[] hours = ZERO;
-    private int[] minutes = ZERO;
-    private int[] months = ALL_MONTHS;
-    private int[] seconds = ZERO;
+    private static final long NONE = Long.MIN_VALUE;
+    private static final int SECONDS_PER_DAY = 86400;
+    private static final long TRANSITION_WINDOW_SECONDS = 400L * SECONDS_PER_DAY;
+    private static final long ZERO = 1L;
+
+    // shared, unmodifiable instances that are obtained via CronTrigger.of
+    private static final int MAX_SHARED = 512;
+    private static final ConcurrentHashMap<Key, CronTrigger> SHARED = new ConcurrentHashMap<Key, CronTrigger>();
+
+    // types of values within cron fields
+    private static final int DAY_OF_MONTH = 1;
+    private static final int DAY_OF_WEEK = 2;
+    private static final int MONTH = 3;
+    private static final int NUMBER = 0;
+
+    // cron expression fields are compiled into bit masks, where bit n is set if the value n is included
+    private long daysOfMonth = ALL_DAYS_OF_MONTH;
+    private long lastDaysOfMonth; // bit n is set for nL, the nth-to-last day of the month
+    private long daysOfWeek = ALL_DAYS_OF_WEEK; // 1-7 any week, 8-42 ordinal #1 to #5, 43-49 ordinal #L
+    private long hours = ZERO;
+    private long minutes = ZERO;
+    private long months = ALL_MONTHS;
+    private long seconds = ZERO;
     private final ZoneId zone;
+    private volatile Transitions transitions; // offset transitions of the zone near the most recent run time
+    private boolean unmodifiable;
 
     /**
      * Constructor that accepts a cron expression.
@@ -178,14 +187,44 @@ public class CronTrigger implements ZonedTrigger {
      */
     public CronTrigger(final String cron, final ZoneId zone) {
         this(zone);
-        String[] c = cron.split(" ");
-        if (c.length == 5) {
-            minutes(c[0]).hours(c[1]).daysOfMonth(c[2]).months(c[3]).daysOfWeek(c[4]);
-        } else if (c.length == 6) {
-            seconds(c[0]).minutes(c[1]).hours(c[2]).daysOfMonth(c[3]).months(c[4]).daysOfWeek(c[5]);
-        } else {
+        int length = cron.length();
+        while (length > 0 && cron.charAt(length - 1) == ' ') {
+            length--; // trailing empty fields are ignored
+        }
+        int count = 1;
+        for (int i = 0; i < length; i++) {
+            if (cron.charAt(i) == ' ') {
+                count++;
+            }
+        }
+        if (length == 0 || count < 5 || count > 6) {
             throw new IllegalArgumentException(cron);
         }
+
+        // fields are seconds (when 6 fields are present), minutes, hours, daysOfMonth, months, daysOfWeek
+        for (int f = 6 - count, begin = 0, end; f < 6; f++, begin = end + 1) {
+            end = indexOf(cron, ' ', begin, length);
+            end = end < 0 ? length : end;
+            switch (f) {
+                case 0:
+                    seconds = parse("seconds", 0, 59, 59, NUMBER, cron, begin, end);
+                    break;
+                case 1:
+                    minutes = parse("minutes", 0, 59, 59, NUMBER, cron, begin, end);
+                    break;
+                case 2:
+                    hours = parse("hours", 0, 23, 23, NUMBER, cron, begin, end);
+                    break;
+                case 3:
+                    setDaysOfMonth(parse("daysOfMonth", 1, 31, LAST, DAY_OF_MONTH, cron, begin, end));
+                    break;
+                case 4:
+                    months = parse("months", 1, 12, 12, MONTH, cron, begin, end);
+                    break;
+                default:
+                    daysOfWeek = parse("daysOfWeek", 1, 7, 49, DAY_OF_WEEK, cron, begin, end);
+            }
+        }
     }
 
     /**
@@ -201,6 +240,44 @@ public class CronTrigger implements ZonedTrigger {
         this.zone = zone == null ? ZoneId.systemDefault() : zone;
     }
 
+    /**
+     * Obtains a <code>CronTrigger</code> for a cron expression.
+     * Instances are cached per distinct cron expression and timezone, such that parsing
+     * and memory are paid only once for cron expressions that are used by many tasks.
+     * The <code>CronTrigger</code> that is returned can be shared and cannot be modified.
+     * Its methods that configure cron expression fields raise {@link UnsupportedOperationException}.
+     * Use the constructors instead to configure a <code>CronTrigger</code> in a fluent manner
+     * or to subclass <code>CronTrigger</code>.
+     *
+     * @param cron cron expression.
+     * @param zone timezone ID to use for {@link java.time.ZonedDateTime} that is supplied to
+     *        {@link #getNextRunTime(LastExecution, ZonedDateTime) getNextRunTime} and
+     *        {@link #skipRun(LastExecution, ZonedDateTime) skipRun} methods.
+     *        Null indicates to use the system default.
+     * @return unmodifiable <code>CronTrigger</code> for the cron expression.
+     * @throws IllegalArgumentException if the cron expression is not valid.
+     * @since 3.1
+     */
+    public static CronTrigger of(final String cron, final ZoneId zone) {
+        Key key = new Key(cron, zone == null ? ZoneId.systemDefault() : zone);
+        CronTrigger trigger = SHARED.get(key);
+        if (trigger == null) {
+            trigger = new CronTrigger(cron, key.zone);
+            trigger.unmodifiable = true;
+            if (SHARED.size() >= MAX_SHARED) {
+                Iterator<Key> keys = SHARED.keySet().iterator();
+                if (keys.hasNext()) {
+                    SHARED.remove(keys.next());
+                }
+            }
+            CronTrigger existing = SHARED.putIfAbsent(key, trigger);
+            if (existing != null) {
+                trigger = existing;
+            }
+        }
+        return trigger;
+    }
+
     /**
      * Using the cron schedule, and based on the end of the most recent execution
      * (or absent that, the initial scheduling time), retrieve the next time
@@ -219,6 +296,96 @@ public class CronTrigger implements ZonedTrigger {
         return next(lastExecutionInfo == null ? taskScheduledTime : lastExecutionInfo.getRunEnd(zone));
     }
 
+    /**
+     * Using the cron schedule, and based on the end of the most recent execution
+     * (or absent that, the initial scheduling time), retrieve the next time
+     * that the task should run after.
+     * The next time is computed in epoch seconds, without creating <code>ZonedDateTime</code>
+     * instances for the scheduled time or result, unless a subclass overrides
+     * {@link #getNextRunTime(LastExecution, ZonedDateTime)}, in which case this method
+     * delegates to it.
+     *
+     * @param lastExecutionInfo information about the last execution of the task.
+     *                          This value will be null if the task has not yet run.
+     * @param taskScheduledTime the instant at which the
+     *                          {@code ManagedScheduledExecutorService.schedule}
+     *                          method was invoked to schedule the task.
+     * @return the instant after which the next execution of the task should start.
+     * @throws DateTimeException if a next time cannot be determined from the cron expression.
+     * @since 3.1
+     */
+    @Override
+    public Instant getNextRunTime(final LastExecution lastExecutionInfo, final Instant taskScheduledTime) {
+        if (getClass() != CronTrigger.class) {
+            return ZonedTrigger.super.getNextRunTime(lastExecutionInfo, taskScheduledTime);
+        }
+        Instant from = lastExecutionInfo == null ? taskScheduledTime : lastExecutionInfo.getRunEnd(zone).toInstant();
+        long time = next(from.getEpochSecond() + (from.getNano() == 0 ? 0 : 1));
+        if (time == NONE) {
+            throw new DateTimeException("Unable to determine next time after " + from.atZone(zone) + " with " + this);
+        }
+        return Instant.ofEpochSecond(time);
+    }
+
+    /**
+     * Return true if this run instance should be skipped.
+     * Returns false without creating a <code>ZonedDateTime</code> instance, unless a subclass
+     * overrides {@link #skipRun(LastExecution, ZonedDateTime)}, in which case this method
+     * delegates to it.
+     *
+     * @param lastExecutionInfo information about the last execution of the task.
+     *                          This value will be null if the task has not yet run.
+     * @param scheduledRunTime  the instant after which the execution of the task
+     *                          is scheduled to start.
+     * @return true if the task should be skipped and rescheduled.
+     * @since 3.1
+     */
+    @Override
+    public boolean skipRun(final LastExecution lastExecutionInfo, final Instant scheduledRunTime) {
+        return getClass() != CronTrigger.class && ZonedTrigger.super.skipRun(lastExecutionInfo, scheduledRunTime);
+    }
+
+    /**
+     * Computes the upcoming run times of the cron schedule, without scheduling a task.
+     * The first run time is the first time that matches the cron schedule at or after
+     * <code>from</code>, and each subsequent run time is the next time that matches
+     * the cron schedule. The search carries forward from each run time to the next,
+     * rather than starting over as would happen with repeated invocations of
+     * {@link #getNextRunTime(LastExecution, ZonedDateTime) getNextRunTime}.
+     * Subclasses that override <code>getNextRunTime</code> have run times computed
+     * per the {@link ZonedTrigger#nextRunTimes(ZonedDateTime) default implementation}.
+     *
+     * @param from the date/time from which to compute run times.
+     * @return sequential, ordered, unbounded stream of the upcoming run times.
+     *         Processing the stream raises {@link DateTimeException} if a next time
+     *         cannot be determined from the cron expression.
+     * @since 3.1
+     */
+    @Override
+    public Stream<ZonedDateTime> nextRunTimes(final ZonedDateTime from) {
+        if (getClass() != CronTrigger.class) {
+            return ZonedTrigger.super.nextRunTimes(from);
+        }
+
+        final long start = from.toEpochSecond() + (from.getNano() == 0 ? 0 : 1);
+        return StreamSupport.stream(new Spliterators.AbstractSpliterator<ZonedDateTime>(Long.MAX_VALUE,
+                Spliterator.DISTINCT | Spliterator.IMMUTABLE | Spliterator.NONNULL | Spliterator.ORDERED) {
+            private long cursor = start;
+
+            @Override
+            public boolean tryAdvance(final Consumer<? super ZonedDateTime> action) {
+                long time = next(cursor);
+                if (time == NONE) {
+                    throw new DateTimeException("Unable to determine next time after "
+                            + Instant.ofEpochSecond(cursor).atZone(zone) + " with " + CronTrigger.this);
+                }
+                cursor = time + 1;
+                action.accept(ZonedDateTime.ofInstant(Instant.ofEpochSecond(time), zone));
+                return true;
+            }
+        }, false);
+    }
+
     /**
      * Returns the timezone to use for
      * {@link java.time.ZonedDateTime ZonedDateTime} that is supplied to the
@@ -239,7 +406,9 @@ public class CronTrigger implements ZonedTrigger {
      * @return this instance.
      */
     public CronTrigger daysOfMonth(final int... d) {
+        checkModifiable();
         daysOfMonth = parse("daysOfMonth", 1, 31, d);
+        lastDaysOfMonth = 0L;
         return this;
     }
 
@@ -250,7 +419,8 @@ public class CronTrigger implements ZonedTrigger {
      * @return this instance.
      */
     public CronTrigger daysOfMonth(final String d) {
-        daysOfMonth = parse("daysOfMonth", 1, 31, LAST, d, CronTrigger::parseDayOfMonth);
+        checkModifiable();
+        setDaysOfMonth(parse("daysOfMonth", 1, 31, LAST, DAY_OF_MONTH, d));
         return this;
     }
 
@@ -261,11 +431,15 @@ public class CronTrigger implements ZonedTrigger {
      * @return this instance.
      */
     public CronTrigger daysOfWeek(final DayOfWeek... d) {
+        checkModifiable();
         if (d.length == 0) {
             throw new IllegalArgumentException("daysOfWeek: []");
         }
-        daysOfWeek = Arrays.stream(d).map(DayOfWeek::getValue).sorted().distinct()
-                                     .mapToInt(Integer::intValue).toArray();
+        long days = 0L;
+        for (DayOfWeek day : d) {
+            days |= 1L << day.getValue();
+        }
+        daysOfWeek = days;
         return this;
     }
 
@@ -276,7 +450,8 @@ public class CronTrigger implements ZonedTrigger {
      * @return this instance.
      */
     public CronTrigger daysOfWeek(final String d) {
-        daysOfWeek = parse("daysOfWeek", 1, 7, 49, d, CronTrigger::parseDayOfWeek);
+        checkModifiable();
+        daysOfWeek = parse("daysOfWeek", 1, 7, 49, DAY_OF_WEEK, d);
         return this;
     }
 
@@ -287,6 +462,7 @@ public class CronTrigger implements ZonedTrigger {
      * @return this instance.
      */
     public CronTrigger hours(final int... h) {
+        checkModifiable();
         hours = parse("hours", 0, 23, h);
         return this;
     }
@@ -298,7 +474,8 @@ public class CronTrigger implements ZonedTrigger {
      * @return this instance.
      */
     public CronTrigger hours(final String h) {
-        hours = parse("hours", 0, 23, 23, h, Integer::parseInt);
+        checkModifiable();
+        hours = parse("hours", 0, 23, 23, NUMBER, h);
         return this;
     }
 
@@ -309,6 +486,7 @@ public class CronTrigger implements ZonedTrigger {
      * @return this instance.
      */
     public CronTrigger minutes(final int... m) {
+        checkModifiable();
         minutes = parse("minutes", 0, 59, m);
         return this;
     }
@@ -321,7 +499,8 @@ public class CronTrigger implements ZonedTrigger {
      * @return this instance.
      */
     public CronTrigger minutes(final String m) {
-        minutes = parse("minutes", 0, 59, 59, m, Integer::parseInt);
+        checkModifiable();
+        minutes = parse("minutes", 0, 59, 59, NUMBER, m);
         return this;
     }
 
@@ -332,10 +511,15 @@ public class CronTrigger implements ZonedTrigger {
      * @return this instance.
      */
     public CronTrigger months(final Month... m) {
+        checkModifiable();
         if (m.length == 0) {
             throw new IllegalArgumentException("months: []");
         }
-        months = Arrays.stream(m).map(Month::getValue).sorted().distinct().mapToInt(Integer::intValue).toArray();
+        long mon = 0L;
+        for (Month month : m) {
+            mon |= 1L << month.getValue();
+        }
+        months = mon;
         return this;
     }
 
@@ -346,7 +530,8 @@ public class CronTrigger implements ZonedTrigger {
      * @return this instance.
      */
     public CronTrigger months(final String m) {
-        months = parse("months", 1, 12, 12, m, CronTrigger::parseMonth);
+        checkModifiable();
+        months = parse("months", 1, 12, 12, MONTH, m);
         return this;
     }
 
@@ -357,6 +542,7 @@ public class CronTrigger implements ZonedTrigger {
      * @return this instance.
      */
     public CronTrigger seconds(final int... s) {
+        checkModifiable();
         seconds = parse("seconds", 0, 59, s);
         return this;
     }
@@ -368,7 +554,8 @@ public class CronTrigger implements ZonedTrigger {
      * @return this instance.
      */
     public CronTrigger seconds(final String s) {
-        seconds = parse("seconds", 0, 59, 59, s, Integer::parseInt);
+        checkModifiable();
+        seconds = parse("seconds", 0, 59, 59, NUMBER, s);
         return this;
     }
 
@@ -384,21 +571,24 @@ public class CronTrigger implements ZonedTrigger {
     @Override
     public String toString() {
         StringBuilder s = new StringBuilder("CronTrigger@").append(Integer.toHexString(hashCode()));
-        toStringBuilder(s, "seconds", seconds, 60);
-        toStringBuilder(s, "minutes", minutes, 60);
-        toStringBuilder(s, "hours", hours, 24);
-        toStringBuilder(s, "days", daysOfMonth, 31);
-        toStringBuilder(s, "months", months, 12);
-        if (daysOfWeek.length == 7 && daysOfWeek[6] == 7) {
+        toStringBuilder(s, "seconds", seconds, 0L, 60);
+        toStringBuilder(s, "minutes", minutes, 0L, 60);
+        toStringBuilder(s, "hours", hours, 0L, 24);
+        toStringBuilder(s, "days", daysOfMonth, lastDaysOfMonth, 31);
+        toStringBuilder(s, "months", months, 0L, 12);
+        if (daysOfWeek == ALL_DAYS_OF_WEEK) {
             s.append(" *");
         } else {
-            for (int i = 0; i < daysOfWeek.length; i++) {
-                int d = ((daysOfWeek[i] - 1) % 7 + 1);
-                int ord = (daysOfWeek[i] - 1) / 7;
-                s.append(i == 0 ? ' ' : ',').append(DayOfWeek.of(d).name().substring(0, 3));
+            char delim = ' ';
+            for (long bits = daysOfWeek; bits != 0L; bits &= bits - 1) {
+                int value = Long.numberOfTrailingZeros(bits);
+                int d = ((value - 1) % 7 + 1);
+                int ord = (value - 1) / 7;
+                s.append(delim).append(DayOfWeek.of(d).name().substring(0, 3));
                 if (ord > 0) {
                     s.append('#').append(ord == 6 ? "L" : ord);
                 }
+                delim = ',';
             }
         }
         return s.toString();
@@ -407,20 +597,19 @@ public class CronTrigger implements ZonedTrigger {
     /**
      * Utility method for repeated logic in toString.
      */
-    private void toStringBuilder(final StringBuilder s, final String label, final int[] list, final int max) {
-        if (list.length == max) {
+    private void toStringBuilder(final StringBuilder s, final String label, final long mask, final long lastMask,
+                                 final int max) {
+        if (Long.bitCount(mask) + Long.bitCount(lastMask) == max) {
             s.append(" *");
         } else {
             s.append(' ').append(label).append(' ');
-            StringBuilder l = new StringBuilder();
-            for (int i = 0; i < list.length; i++) {
-                if (list[i] < 0) {
-                    l.append(list[i] == LAST ? "L" : (-list[i] + "L")).append(',');
-                } else {
-                    s.append(list[i]).append(',');
-                }
+            for (long bits = mask; bits != 0L; bits &= bits - 1) {
+                s.append(Long.numberOfTrailingZeros(bits)).append(',');
+            }
+            for (long bits = lastMask; bits != 0L; bits &= ~Long.highestOneBit(bits)) {
+                int n = 63 - Long.numberOfLeadingZeros(bits);
+                s.append(n == 1 ? "L" : (n + "L")).append(',');
             }
-            s.append(l.toString());
         }
     }
 
@@ -431,143 +620,322 @@ public class CronTrigger implements ZonedTrigger {
      * @return next date/time according to the cron schedule, or the original time if it matches.
      */
     protected ZonedDateTime next(final ZonedDateTime from) {
-        ZonedDateTime time = from.getNano() == 0 ? from : from.plusSeconds(1).withNano(0);
+        long time = next(from.toEpochSecond() + (from.getNano() == 0 ? 0 : 1));
+        if (time == NONE) {
+            throw new DateTimeException("Unable to determine next time after " + from + " with " + this);
+        }
+        return ZonedDateTime.ofInstant(Instant.ofEpochSecond(time), zone);
+    }
 
-        for (int i = 0; i < 1000 /** just in case expression never matches */ && time != null; ++i) {
-            int year = time.getYear();
-            int m = Arrays.binarySearch(months, time.getMonthValue());
-            if (m < 0) {
-                time = nextMonth(-m - 2, year);
+    /**
+     * Advance to the next time according to the cron schedule, computed in epoch seconds.
+     * Each cron field is matched against the local date/time in the zone of this trigger.
+     *
+     * @param from epoch second from which to compute the next time.
+     * @return next epoch second according to the cron schedule, or NONE if the cron expression never matches.
+     */
+    private long next(final long from) {
+        if (seconds == 0L || minutes == 0L || hours == 0L || months == 0L || daysOfWeek == 0L
+            || (daysOfMonth | lastDaysOfMonth) == 0L) {
+            return NONE;
+        }
+
+        long time = from;
+        for (int i = 0; i < 1000 /** just in case expression never matches */ && time != NONE; ++i) {
+            int offset = offsetAt(time);
+            long local = time + offset;
+            long epochDay = Math.floorDiv(local, SECONDS_PER_DAY);
+            int secondOfDay = (int) (local - epochDay * SECONDS_PER_DAY);
+
+            // convert epoch day to year/month/day of the proleptic Gregorian calendar
+            long z = epochDay + 719468;
+            long era = Math.floorDiv(z, 146097);
+            int dayOfEra = (int) (z - era * 146097);
+            int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+            int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+            int mp = (5 * dayOfYear + 2) / 153;
+            int dayOfMonth = dayOfYear - (153 * mp + 2) / 5 + 1;
+            int month = mp < 10 ? mp + 3 : mp - 9;
+            int year = (int) (era * 400 + yearOfEra) + (month <= 2 ? 1 : 0);
+
+            if ((months & (1L << month)) == 0L) {
+                time = nextMonth(month, year);
             } else {
-                int dayOfMonth = time.getDayOfMonth();
-                int lastDayOfMonth = time.getMonth().length(Year.isLeap(year));
-                int d = Arrays.binarySearch(daysOfMonth, dayOfMonth);
-                int l = Arrays.binarySearch(daysOfMonth, dayOfMonth - lastDayOfMonth - 1);
-                if (d < 0 && l < 0) {
-                    time = nextDayOfMonth(-d - 2, -l - 2, m, year, time);
+                int lastDayOfMonth = lengthOfMonth(month, year);
+                if ((daysOfMonth & (1L << dayOfMonth)) == 0L
+                 && (lastDaysOfMonth & (1L << (lastDayOfMonth - dayOfMonth + 1))) == 0L) {
+                    time = nextDayOfMonth(dayOfMonth, lastDayOfMonth, month, year);
                 } else {
-                    d = d < 0 ? (-d - 2) : d;
-                    l = l < 0 ? (-l - 2) : l;
-                    int dayOfWeek = time.getDayOfWeek().getValue();
+                    int dayOfWeek = Math.floorMod(epochDay + 3, 7) + 1;
                     int ordinalDayOfWeek = (((dayOfMonth - 1) / 7) + 1) * 7 + dayOfWeek;
-                    int dayOfLastWeek = lastDayOfMonth - dayOfMonth >= 7 ? -1 : (6 * 7 + dayOfWeek);
 
-                    if (Arrays.binarySearch(daysOfWeek, dayOfWeek) < 0 // (TUE)
-                     && Arrays.binarySearch(daysOfWeek, ordinalDayOfWeek) < 0 // (WED#3)
-                     && Arrays.binarySearch(daysOfWeek, dayOfLastWeek) < 0) { // (THU#L)
-                        time = nextDayOfMonth(d, l, m, year, time);
+                    if ((daysOfWeek & (1L << dayOfWeek)) == 0L // (TUE)
+                     && (daysOfWeek & (1L << ordinalDayOfWeek)) == 0L // (WED#3)
+                     && (lastDayOfMonth - dayOfMonth >= 7
+                         || (daysOfWeek & (1L << (6 * 7 + dayOfWeek))) == 0L)) { // (THU#L)
+                        time = nextDayOfMonth(dayOfMonth, lastDayOfMonth, month, year);
                     } else {
-                        int h = Arrays.binarySearch(hours, time.getHour());
-                        if (h < 0) {
-                            time = nextHour(-h - 2, d, l, dayOfMonth, m, year, time);
+                        int hour = secondOfDay / 3600;
+                        int minute = secondOfDay / 60 % 60;
+                        int second = secondOfDay % 60;
+                        if ((hours & (1L << hour)) == 0L) {
+                            time = nextHour(time, epochDay, hour, dayOfMonth, lastDayOfMonth, month, year);
+                        } else if ((minutes & (1L << minute)) == 0L) {
+                            time = nextMinute(time, local, offset, epochDay, hour, minute,
+                                              dayOfMonth, lastDayOfMonth, month, year);
+                        } else if ((seconds & (1L << second)) == 0L) {
+                            time = nextSecond(time, local, offset, epochDay, hour, minute, second,
+                                              dayOfMonth, lastDayOfMonth, month, year);
                         } else {
-                            int min = Arrays.binarySearch(minutes, time.getMinute());
-                            if (min < 0) {
-                                time = nextMinute(-min - 2, h, d, l, dayOfMonth, m, year, time);
-                            } else {
-                                int s = Arrays.binarySearch(seconds, time.getSecond());
-                                if (s < 0) {
-                                    time = nextSecond(-s - 2, min, h, d, l, dayOfMonth, m, year, time);
-                                } else {
-                                    return time;
-                                }
-                            }
+                            return time;
                         }
                     }
                 }
             }
         }
-        throw new DateTimeException("Unable to determine next time after " + from + " with " + this);
+        return NONE;
     }
-    
+
     /**
      * Advance to next day of month.
      */
-    private ZonedDateTime nextDayOfMonth(final int d, final int l, final int m,
-                                         final int year, final ZonedDateTime time) {
-        int lastDayOfMonth = Month.of(months[m]).length(Year.isLeap(year));
-        int dd = d + 1 < daysOfMonth.length ? daysOfMonth[d + 1] : 32;
-        int ld = l + 1 < daysOfMonth.length && daysOfMonth[l + 1] < 0 ? (1 + lastDayOfMonth + daysOfMonth[l + 1]) : 32;
-        int dayOfMonth = Math.min(dd, ld);
-        if (dayOfMonth > lastDayOfMonth) {
-            return nextMonth(m, year);
+    private long nextDayOfMonth(final int dayOfMonth, final int lastDayOfMonth,
+                                final int month, final int year) {
+        int dd = nextValue(daysOfMonth, dayOfMonth + 1);
+        // nL is day (lastDayOfMonth + 1 - n), so the next such day has the largest n below that of the current day
+        int n = 63 - Long.numberOfLeadingZeros(lastDaysOfMonth & ((1L << (lastDayOfMonth + 1 - dayOfMonth)) - 1));
+        int ld = n > 0 ? lastDayOfMonth + 1 - n : 32;
+        int day = dd < 0 ? ld : Math.min(dd, ld);
+        if (day > lastDayOfMonth) {
+            return nextMonth(month, year);
         }
 
-        return ZonedDateTime.of(year, months[m], dayOfMonth, hours[0], minutes[0], seconds[0], 0, time.getZone());
+        return epochSecond(epochDay(year, month, day), firstTimeOfDay(), NONE);
     }
 
     /**
      * Advance to next hour.
      */
-    private ZonedDateTime nextHour(final int h, final int d, final int l, final int dayOfMonth,
-                                   final int m, final int year, final ZonedDateTime time) {
-        ZonedDateTime dst = ZonedDateTime.of(year, months[m], dayOfMonth,
-                                             hours[h], minutes[0], seconds[0], 0, time.getZone());
-        ZonedDateTime std = dst.plusHours(1);
-        if (dst.getHour() == std.getHour() && time.isAfter(dst) && time.isBefore(std)) {
-            return std; // Daylight Saving Time --> Standard Time
-        } else if (h + 1 < hours.length) {
-            return ZonedDateTime.of(year, months[m], dayOfMonth,
-                                    hours[h + 1], minutes[0], seconds[0], 0, time.getZone());
+    private long nextHour(final long time, final long epochDay, final int hour,
+                          final int dayOfMonth, final int lastDayOfMonth,
+                          final int month, final int year) {
+        int h = 63 - Long.numberOfLeadingZeros(hours & ((2L << hour) - 1)); // hour or the closest before it
+        if (h >= 0) {
+            long dst = epochSecond(epochDay, h * 3600 + firstValue(minutes) * 60 + firstValue(seconds), NONE);
+            long std = dst + 3600;
+            if (hourOf(dst) == hourOf(std) && time > dst && time < std) {
+                return std; // Daylight Saving Time --> Standard Time
+            }
+        }
+        int next = nextValue(hours, hour + 1);
+        if (next >= 0) {
+            return epochSecond(epochDay, next * 3600 + firstValue(minutes) * 60 + firstValue(seconds), NONE);
         } else {
-            return nextDayOfMonth(d, l, m, year, time);
+            return nextDayOfMonth(dayOfMonth, lastDayOfMonth, month, year);
         }
     }
 
     /**
      * Advance to next minute.
      */
-    private ZonedDateTime nextMinute(final int min, final int h, final int d, final int l, final int dayOfMonth,
-                                     final int m, final int year, final ZonedDateTime time) {
-        if (min + 1 < minutes.length) {
-            return time.withMinute(minutes[min + 1]).withSecond(seconds[0]);
+    private long nextMinute(final long time, final long local, final int offset, final long epochDay,
+                            final int hour, final int minute, final int dayOfMonth, final int lastDayOfMonth,
+                            final int month, final int year) {
+        int next = nextValue(minutes, minute + 1);
+        if (next >= 0) {
+            // keep the current offset where valid, like ZonedDateTime.withMinute(next).withSecond(firstSecond)
+            long t = epochSecond(local + (next - minute) * 60L, offset);
+            int o = offsetAt(t);
+            long l = t + o;
+            return epochSecond(l - Math.floorMod(l, 60) + firstValue(seconds), o);
         } else {
-            return nextHour(h, d, l, dayOfMonth, m, year, time);
+            return nextHour(time, epochDay, hour, dayOfMonth, lastDayOfMonth, month, year);
         }
     }
 
     /**
      * Advance to next month.
      */
-    private ZonedDateTime nextMonth(final int month, final int year) {
-        int dayOfMonth, lastDayOfMonth, cycles = 0, m = month, y = year;
-        do {
-            if (++m >= months.length) {
-                m = 0;
+    private long nextMonth(final int month, final int year) {
+        int m = month;
+        int y = year;
+        for (int cycles = 0; cycles < 1000; cycles++) {
+            m = nextValue(months, m + 1);
+            if (m < 0) {
+                m = firstValue(months);
                 y++;
             }
-            int d = 0;
-            for (int i = 0; i < daysOfMonth.length && daysOfMonth[i] < 0;) {
-                d = ++i;
+            int lastDayOfMonth = lengthOfMonth(m, y);
+            int dd = firstValue(daysOfMonth);
+            // nL with the largest n that fits within the month is the first such day
+            int n = 63 - Long.numberOfLeadingZeros(lastDaysOfMonth & ((2L << lastDayOfMonth) - 1));
+            int ld = n > 0 ? lastDayOfMonth + 1 - n : 32;
+            int day = dd == 64 ? ld : Math.min(dd, ld);
+            if (day <= lastDayOfMonth) {
+                return epochSecond(epochDay(y, m, day), firstTimeOfDay(), NONE);
             }
-            lastDayOfMonth = Month.of(months[m]).length(Year.isLeap(y));
-            int dd = d < daysOfMonth.length && daysOfMonth[d] > 0 ? daysOfMonth[d] : 32;
-            int ld = daysOfMonth[0] < 0 ? (1 + lastDayOfMonth + daysOfMonth[0]) : 32;
-            dayOfMonth = Math.min(dd, ld);
-        } while ((dayOfMonth < 1 || dayOfMonth > lastDayOfMonth) && (++cycles < 1000));
-
-        return cycles < 1000
-                ? ZonedDateTime.of(y, months[m], dayOfMonth, hours[0], minutes[0], seconds[0], 0, zone)
-                : null; // expression never matched, for example 0 0 30 FEB *
+        }
+        return NONE; // expression never matched, for example 0 0 30 FEB *
     }
 
     /**
      * Advance to next second.
      */
-    private ZonedDateTime nextSecond(final int s, final int min, final int h,
-                                     final int d, final int l, final int dayOfMonth,
-                                     final int m, final int year, final ZonedDateTime time) {
-        if (s + 1 < seconds.length) {
-            return time.withSecond(seconds[s + 1]);
+    private long nextSecond(final long time, final long local, final int offset, final long epochDay,
+                            final int hour, final int minute, final int second,
+                            final int dayOfMonth, final int lastDayOfMonth,
+                            final int month, final int year) {
+        int next = nextValue(seconds, second + 1);
+        if (next >= 0) {
+            return epochSecond(local + next - second, offset);
         } else {
-            return nextMinute(min, h, d, l, dayOfMonth, m, year, time);
+            return nextMinute(time, local, offset, epochDay, hour, minute,
+                              dayOfMonth, lastDayOfMonth, month, year);
+        }
+    }
+
+    /**
+     * Raises UnsupportedOperationException if this instance is shared via CronTrigger.of.
+     */
+    private void checkModifiable() {
+        if (unmodifiable) {
+            throw new UnsupportedOperationException(toString());
+        }
+    }
+
+    /**
+     * Assigns the day-of-month bit masks from the result of parsing the day-of-month cron field,
+     * where bit (31 + n) is set for the value n.
+     */
+    private void setDaysOfMonth(final long bits) {
+        daysOfMonth = bits >>> 31;
+        // values -31 to -1 (31L to L) are bits 0 to 30, which are reversed into bits 31 to 1
+        lastDaysOfMonth = Long.reverse(bits & 0x7FFFFFFFL) >>> 32;
+    }
+
+    /**
+     * Second of the day at which the first hour, minute, and second of the cron schedule coincide.
+     */
+    private int firstTimeOfDay() {
+        return firstValue(hours) * 3600 + firstValue(minutes) * 60 + firstValue(seconds);
+    }
+
+    /**
+     * Lowest value in the bit mask, or 64 if empty.
+     */
+    private static int firstValue(final long mask) {
+        return Long.numberOfTrailingZeros(mask);
+    }
+
+    /**
+     * Lowest value in the bit mask that is greater than or equal to the specified value, or -1 if none.
+     */
+    private static int nextValue(final long mask, final int from) {
+        long bits = mask & (-1L << from);
+        return bits == 0L ? -1 : Long.numberOfTrailingZeros(bits);
+    }
+
+    /**
+     * Computes the epoch day for a date in the proleptic Gregorian calendar.
+     */
+    private static long epochDay(final int year, final int month, final int dayOfMonth) {
+        long y = month <= 2 ? year - 1L : year;
+        long era = Math.floorDiv(y, 400);
+        int yearOfEra = (int) (y - era * 400);
+        int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + dayOfMonth - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    /**
+     * Converts a local date/time, expressed as an epoch day and second of that day, to epoch seconds.
+     */
+    private long epochSecond(final long epochDay, final int secondOfDay, final long preferredOffset) {
+        return epochSecond(epochDay * SECONDS_PER_DAY + secondOfDay, preferredOffset);
+    }
+
+    /**
+     * Converts a local date/time, expressed in seconds from 1970-01-01T00:00:00, to epoch seconds,
+     * following the same rules as {@link ZonedDateTime#ofLocal(LocalDateTime, ZoneId, ZoneOffset)}:
+     * a local time within a gap is moved later by the length of the gap, and a local time within an
+     * overlap uses the preferred offset if valid, otherwise the earlier offset.
+     */
+    private long epochSecond(final long local, final long preferredOffset) {
+        return transitions(local).epochSecond(local, preferredOffset);
+    }
+
+    /**
+     * Hour of the local time at the specified epoch second.
+     */
+    private int hourOf(final long epochSecond) {
+        return Math.floorMod(epochSecond + offsetAt(epochSecond), SECONDS_PER_DAY) / 3600;
+    }
+
+    /**
+     * Number of days in the month.
+     */
+    private static int lengthOfMonth(final int month, final int year) {
+        return month == 2 ? (Year.isLeap(year) ? 29 : 28) : 30 + ((month + (month >> 3)) & 1);
+    }
+
+    /**
+     * Total offset in seconds from UTC at the specified epoch second.
+     */
+    private int offsetAt(final long epochSecond) {
+        return transitions(epochSecond).offsetAt(epochSecond);
+    }
+
+    /**
+     * Obtains a table of the offset transitions of the zone of this trigger that covers
+     * the specified epoch second, building a new table from the zone rules if the
+     * most recently used table does not cover it.
+     */
+    private Transitions transitions(final long epochSecond) {
+        Transitions t = transitions;
+        if (t == null || epochSecond < t.start || epochSecond >= t.end) {
+            transitions = t = new Transitions(zone.getRules(), epochSecond);
         }
+        return t;
     }
 
-    private static final void add(final SortedSet<Integer> vals, final int start, final int end, final int increment) {
+    /**
+     * Key for shared instances, which is the cron expression and timezone.
+     */
+    private static final class Key {
+        private final String cron;
+        private final ZoneId zone;
+
+        private Key(final String cron, final ZoneId zone) {
+            this.cron = cron;
+            this.zone = zone;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return o instanceof Key && cron.equals(((Key) o).cron) && zone.equals(((Key) o).zone);
+        }
+
+        @Override
+        public int hashCode() {
+            return cron.hashCode() * 31 + zone.hashCode();
+        }
+    }
+
+    /**
+     * Computes a bit mask of the values from start to end, inclusive, at the specified increment.
+     */
+    private static long range(final int start, final int end, final int increment) {
+        if (increment == 1) {
+            return (-1L << start) & (-1L >>> (63 - end));
+        }
+        long bits = 0L;
         for (int val = start; val <= end; val += increment) {
-            vals.add(val);
+            bits |= 1L << val;
+            if (val > end - increment) {
+                break;
+            }
         }
+        return bits;
     }
 
     /**
@@ -577,106 +945,136 @@ public class CronTrigger implements ZonedTrigger {
      * @param min  minimum allowed value
      * @param max  maximum allowed value
      * @param list supplied list of values
-     * @return sorted list of values with any duplicates removed.
+     * @return bit mask of the values.
      */
-    private int[] parse(final String type, final int min, final int max, final int[] list) {
+    private static long parse(final String type, final int min, final int max, final int[] list) {
         if (list.length == 0) {
             throw new IllegalArgumentException(type + ": []");
         }
-        SortedSet<Integer> vals = new TreeSet<Integer>();
+        long bits = 0L;
         for (int i = 0; i < list.length; i++) {
             if (list[i] < min || list[i] > max) {
                 throw new IllegalArgumentException(type + ": " + list[i]);
             } else {
-                vals.add(list[i]);
+                bits |= 1L << list[i];
             }
         }
-        return vals.stream().mapToInt(Integer::intValue).toArray();
+        return bits;
     }
 
     /**
      * Validate that the supplied list values are within the allowed range for the cron field type.
      *
-     * @param type   cron field type, such as months or hours.
+     * @param name   cron field type, such as months or hours.
      * @param min    minimum allowed normal value
      * @param max    maximum allowed normal value
      * @param maxExt maximum allowed special value (L or SUN#L), or max if no special values allowed for this field.
+     * @param type   type of value, such as NUMBER or MONTH
      * @param field  the field's cron expression
-     * @param parser parser function, such as Integer::parseInt or CronTrigger::parseMonth
-     * @return sorted list of values with any duplicates removed.
+     * @return bit mask of the values.
      */
-    private int[] parse(final String name, final int min, final int max, final int maxExt,
-                        final String field, final Function<String, Integer> parser) {
-        if (field == null || field.length() == 0) {
+    private static long parse(final String name, final int min, final int max, final int maxExt, final int type,
+                              final String field) {
+        if (field == null) {
             throw new IllegalArgumentException(name + ": []");
         }
+        return parse(name, min, max, maxExt, type, field, 0, field.length());
+    }
 
-        SortedSet<Integer> vals = new TreeSet<Integer>();
-        for (String f : field.split(",")) {
+    /**
+     * Validate that the supplied list values are within the allowed range for the cron field type.
+     * The field is scanned in place within the supplied string, such that no intermediate strings are created
+     * unless an error is raised.
+     *
+     * @param name   cron field type, such as months or hours.
+     * @param min    minimum allowed normal value
+     * @param max    maximum allowed normal value
+     * @param maxExt maximum allowed special value (L or SUN#L), or max if no special values allowed for this field.
+     * @param type   type of value, such as NUMBER or MONTH
+     * @param s      string that contains the field's cron expression
+     * @param begin  index of the first character of the field
+     * @param end    index after the last character of the field
+     * @return bit mask of the values. For day of month, bit (31 + n) is set for value n, which can be negative.
+     */
+    private static long parse(final String name, final int min, final int max, final int maxExt, final int type,
+                              final String s, final int begin, final int end) {
+        if (begin >= end) {
+            throw new IllegalArgumentException(name + ": []");
+        }
+
+        int offset = type == DAY_OF_MONTH ? 31 : 0;
+        int last = end;
+        while (last > begin && s.charAt(last - 1) == ',') {
+            last--; // trailing empty list elements are ignored
+        }
+
+        long bits = 0L;
+        for (int b = begin, e; b < last; b = e + 1) {
+            e = indexOf(s, ',', b, last);
+            e = e < 0 ? last : e;
             try {
-                if ("*".equals(f) || "?".equals(f)) { // all values
-                    add(vals, min, max, 1);
+                if (e - b == 1 && (s.charAt(b) == '*' || s.charAt(b) == '?')) { // all values
+                    bits |= range(min + offset, max + offset, 1);
                 } else {
-                    int slash = f.indexOf('/', 1);
-                    if (slash > 0 && slash < f.length() - 1) { // increment
-                        int val1 = slash == 1 && f.charAt(0) == '*' ? min : parser.apply(f.substring(0, slash));
-                        int increment = parser.apply(f.substring(slash + 1));
+                    int slash = indexOf(s, '/', b + 1, e);
+                    if (slash > 0 && slash < e - 1) { // increment
+                        int val1 = slash == b + 1 && s.charAt(b) == '*' ? min : parseValue(type, s, b, slash);
+                        int increment = parseValue(type, s, slash + 1, e);
                         if (val1 < min || val1 > max || increment < 1 || maxExt > max /* dayOfWeek */) {
-                            throw new IllegalArgumentException(name + ": " + f);
+                            throw new IllegalArgumentException(name + ": " + s.substring(b, e));
                         }
-                        add(vals, val1, max, increment);
+                        bits |= range(val1 + offset, max + offset, increment);
                     } else {
-                        int dash = f.indexOf('-', 1);
-                        if (dash > 0 && dash < f.length() - 1) { // range
-                            int val1 = parser.apply(f.substring(0, dash));
-                            String end = f.substring(dash + 1);
-                            int val2 = "L".equals(end) ? max : parser.apply(end);
+                        int dash = indexOf(s, '-', b + 1, e);
+                        if (dash > 0 && dash < e - 1) { // range
+                            int val1 = parseValue(type, s, b, dash);
+                            int val2 = dash == e - 2 && s.charAt(e - 1) == 'L' ? max : parseValue(type, s, dash + 1, e);
                             if (val1 < min || val1 > max || val2 < min || val2 > max) {
-                                throw new IllegalArgumentException(name + ": " + f);
+                                throw new IllegalArgumentException(name + ": " + s.substring(b, e));
                             }
                             if (val2 >= val1) {
-                                add(vals, val1, val2, 1);
+                                bits |= range(val1 + offset, val2 + offset, 1);
                             } else { // wrap around (eg. OCT-MAY)
-                                add(vals, val1, max, 1);
-                                add(vals, min, val2, 1);
+                                bits |= range(val1 + offset, max + offset, 1);
+                                bits |= range(min + offset, val2 + offset, 1);
                             }
                         } else { // single value
-                            int val = parser.apply(f);
+                            int val = parseValue(type, s, b, e);
                             if ((val < min || val > maxExt) && maxExt != LAST) {
-                                throw new IllegalArgumentException(name + ": " + f);
+                                throw new IllegalArgumentException(name + ": " + s.substring(b, e));
                             }
-                            vals.add(val);
+                            bits |= 1L << (val + offset);
                         }
                     }
                 }
             } catch (NumberFormatException x) {
-                throw new IllegalArgumentException(name + ": " + f, x);
+                throw new IllegalArgumentException(name + ": " + s.substring(b, e), x);
             }
         }
-        return vals.stream().mapToInt(Integer::intValue).toArray();
+        return bits;
     }
 
     /**
      * Convert dayOfMonth value to 1-31, or negative for days from the end of the month
      * For example, L is the last day (-1) and 2L is the second to last day (-2).
      */
-    private static int parseDayOfMonth(final String day) throws IllegalArgumentException {
+    private static int parseDayOfMonth(final String s, final int begin, final int end) throws IllegalArgumentException {
         try {
-            if (day.charAt(day.length() - 1) == 'L') {
-                int d = day.length() == 1 ? LAST : -Integer.parseInt(day.substring(0, day.length() - 1));
+            if (end > begin && s.charAt(end - 1) == 'L') {
+                int d = end - begin == 1 ? LAST : -Integer.parseInt(s, begin, end - 1, 10);
                 if (d > -1 || d < -31) {
-                    throw new IllegalArgumentException("dayOfMonth: " + day);
+                    throw new IllegalArgumentException("dayOfMonth: " + s.substring(begin, end));
                 }
                 return d;
             } else {
-                int d = Integer.parseInt(day);
+                int d = Integer.parseInt(s, begin, end, 10);
                 if (d < 1 || d > 31) {
-                    throw new IllegalArgumentException("dayOfMonth: " + day);
+                    throw new IllegalArgumentException("dayOfMonth: " + s.substring(begin, end));
                 }
                 return d;
             }
         } catch (NumberFormatException x) {
-            throw new IllegalArgumentException("dayOfMonth: " + day, x);
+            throw new IllegalArgumentException("dayOfMonth: " + s.substring(begin, end), x);
         }
     }
 
@@ -684,47 +1082,162 @@ public class CronTrigger implements ZonedTrigger {
      * Convert dayOfWeek value to 1-49 where first 7 are standard week days,
      * next 35 are ordinal 1st-5th of each day, and final 7 are ordinal last for each day.
      */
-    private static int parseDayOfWeek(final String dayName) throws IllegalArgumentException {
-        String day = dayName;
+    private static int parseDayOfWeek(final String s, final int begin, final int end) throws IllegalArgumentException {
+        int dayEnd = end;
         int ordinal = 0;
-        int n = day.indexOf('#'); // ordinal day of week within month (TUE#2 for second Tuesday)
+        int n = indexOf(s, '#', begin, end); // ordinal day of week within month (TUE#2 for second Tuesday)
         try {
-            if (n > 0) {
-                ordinal = day.charAt(n + 1) == 'L' ? 6 : Integer.parseInt(day.substring(n + 1));
+            if (n > begin) {
+                ordinal = n + 1 == end ? 0 : s.charAt(n + 1) == 'L' ? 6 : Integer.parseInt(s, n + 1, end, 10);
                 if (ordinal < 1 || ordinal > 6) {
-                    throw new IllegalArgumentException("dayOfWeek: " + day);
+                    throw new IllegalArgumentException("dayOfWeek: " + s.substring(begin, end));
                 }
-                day = day.substring(0, n);
+                dayEnd = n;
             }
-            if (day.length() < 3) {
-                int d = Integer.parseInt(day);
-                return d == 0 ? 7 : d;
+            if (dayEnd - begin < 3) {
+                int d = Integer.parseInt(s, begin, dayEnd, 10);
+                if (ordinal > 0 && (d < 0 || d > 7)) {
+                    throw new IllegalArgumentException("dayOfWeek: " + s.substring(begin, end));
+                }
+                return 7 * ordinal + (d == 0 ? 7 : d);
             }
         } catch (NumberFormatException x) {
-            throw new IllegalArgumentException("dayOfWeek: " + day, x);
+            throw new IllegalArgumentException("dayOfWeek: " + s.substring(begin, dayEnd), x);
         }
-        day = day.toUpperCase();
-        Integer d = DAYS_OF_WEEK.get(day);
-        if (d == null) {
-            d = DayOfWeek.valueOf(day).getValue();
+        for (int d = 1; d <= 7; d++) {
+            if (matches(s, begin, dayEnd, DayOfWeek.of(d).name())) {
+                return 7 * ordinal + d;
+            }
         }
-        return 7 * ordinal + d;
+        return 7 * ordinal + DayOfWeek.valueOf(s.substring(begin, dayEnd).toUpperCase()).getValue();
     }
 
     /**
      * Convert month value to 1-12.
      */
-    private static int parseMonth(final String monthName) throws IllegalArgumentException {
-        String month = monthName;
-        if (month.length() < 3) {
+    private static int parseMonth(final String s, final int begin, final int end) throws IllegalArgumentException {
+        if (end - begin < 3) {
             try {
-                return Integer.parseInt(month);
+                return Integer.parseInt(s, begin, end, 10);
             } catch (NumberFormatException x) {
-                throw new IllegalArgumentException("month: " + month, x);
+                throw new IllegalArgumentException("month: " + s.substring(begin, end), x);
+            }
+        }
+        for (int m = 1; m <= 12; m++) {
+            if (matches(s, begin, end, Month.of(m).name())) {
+                return m;
+            }
+        }
+        return Month.valueOf(s.substring(begin, end).toUpperCase()).getValue();
+    }
+
+    /**
+     * Parse a value of the specified type.
+     */
+    private static int parseValue(final int type, final String s, final int begin, final int end) {
+        switch (type) {
+            case DAY_OF_MONTH:
+                return parseDayOfMonth(s, begin, end);
+            case DAY_OF_WEEK:
+                return parseDayOfWeek(s, begin, end);
+            case MONTH:
+                return parseMonth(s, begin, end);
+            default:
+                return Integer.parseInt(s, begin, end, 10);
+        }
+    }
+
+    /**
+     * Index of the character within the specified range of the string, or -1 if not found.
+     */
+    private static int indexOf(final String s, final char c, final int begin, final int end) {
+        for (int i = begin; i < end; i++) {
+            if (s.charAt(i) == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Determines if the specified range of the string, ignoring case, is the name or its 3 letter abbreviation.
+     */
+    private static boolean matches(final String s, final int begin, final int end, final String name) {
+        int length = end - begin;
+        return (length == 3 || length == name.length()) && s.regionMatches(true, begin, name, 0, length);
+    }
+
+    /**
+     * Immutable table of the offset transitions of a zone within a window of time,
+     * such that offsets can be resolved with primitive arithmetic on epoch seconds
+     * and the zone rules are only consulted when the window is left.
+     */
+    private static final class Transitions {
+        private final long end; // lookups are valid for epoch seconds before this
+        private final long[] instants; // epoch seconds of transitions, in ascending order
+        private final int[] offsets; // offsets[i] is in effect before instants[i], and the last after all
+        private final long start; // lookups are valid for epoch seconds from this
+
+        private Transitions(final ZoneRules rules, final long epochSecond) {
+            if (rules.isFixedOffset()) {
+                start = Long.MIN_VALUE;
+                end = Long.MAX_VALUE;
+                instants = new long[0];
+                offsets = new int[] {rules.getOffset(Instant.EPOCH).getTotalSeconds()};
+            } else {
+                // include an extra day on each side so that local times near the ends can be resolved
+                long from = epochSecond - 2L * SECONDS_PER_DAY;
+                long to = epochSecond + TRANSITION_WINDOW_SECONDS;
+                start = from + SECONDS_PER_DAY;
+                end = to - SECONDS_PER_DAY;
+
+                long[] times = new long[4];
+                int[] offs = new int[5];
+                offs[0] = rules.getOffset(Instant.ofEpochSecond(from)).getTotalSeconds();
+                int count = 0;
+                for (ZoneOffsetTransition transition = rules.nextTransition(Instant.ofEpochSecond(from));
+                     transition != null && transition.toEpochSecond() < to;
+                     transition = rules.nextTransition(transition.getInstant())) {
+                    if (count == times.length) {
+                        times = Arrays.copyOf(times, count * 2);
+                        offs = Arrays.copyOf(offs, count * 2 + 1);
+                    }
+                    times[count] = transition.toEpochSecond();
+                    offs[++count] = transition.getOffsetAfter().getTotalSeconds();
+                }
+                instants = Arrays.copyOf(times, count);
+                offsets = Arrays.copyOf(offs, count + 1);
+            }
+        }
+
+        /**
+         * Converts a local date/time, expressed in seconds from 1970-01-01T00:00:00, to epoch seconds.
+         * A local time within a gap uses the offset before the transition, and a local time within
+         * an overlap uses the preferred offset if it is the offset after the transition,
+         * otherwise the offset before.
+         */
+        private long epochSecond(final long local, final long preferredOffset) {
+            for (int i = 0; i < instants.length; i++) {
+                int before = offsets[i];
+                int after = offsets[i + 1];
+                if (local < instants[i] + Math.min(before, after)) {
+                    return local - before;
+                } else if (local < instants[i] + Math.max(before, after)) {
+                    return local - (after < before && preferredOffset == after ? after : before);
+                }
+            }
+            return local - offsets[instants.length];
+        }
+
+        /**
+         * Total offset in seconds from UTC at the specified epoch second.
+         */
+        private int offsetAt(final long epochSecond) {
+            int i = 0;
+            while (i < instants.length && epochSecond >= instants[i]) {
+                i++;
             }
+            return offsets[i];
         }
-        month = month.toUpperCase();
-        Integer m = MONTHS.get(month);
-        return m == null ? Month.valueOf(month).getValue() : m;
     }
 }
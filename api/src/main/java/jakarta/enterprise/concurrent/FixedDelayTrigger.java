@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.enterprise.concurrent;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.ZoneId;
+
+/**
+ * <p>{@link Trigger} that runs a task with a fixed delay between the end of
+ * each execution and the start of the next, plus a {@link ZoneId}.
+ * The first execution runs at the time the task is scheduled plus an initial delay.
+ * This matches the behavior of
+ * {@link java.util.concurrent.ScheduledExecutorService#scheduleWithFixedDelay scheduleWithFixedDelay}.
+ * For example,
+ * <pre>
+ * trigger = new FixedDelayTrigger(Duration.ZERO, Duration.ofSeconds(30), ZoneId.of("America/Chicago"));
+ * </pre>
+ * <p>
+ * Because the next run time is always relative to the end of the prior execution,
+ * run times cannot be missed, and so no catch-up policy applies.
+ * See {@link FixedRateTrigger} for a trigger with run times at a fixed rate.
+ * <p>
+ * <code>FixedDelayTrigger</code> is immutable and can be shared by any number of tasks.
+ * The {@link #skipRun(LastExecution, ZonedDateTime) skipRun} method always returns false
+ * unless overridden by a subclass.
+ *
+ * @since 3.1
+ */
+public class FixedDelayTrigger implements ZonedTrigger {
+    private final long delay; // milliseconds
+    private final long initialDelay; // milliseconds
+    private final ZoneId zone;
+
+    /**
+     * Constructor for a trigger that first runs after the delay elapses from the time
+     * the task is scheduled.
+     *
+     * @param delay time between the end of an execution and the start of the next.
+     *        Must not be negative.
+     * @param zone timezone ID to use for {@link java.time.ZonedDateTime} that is supplied to
+     *        {@link #getNextRunTime(LastExecution, ZonedDateTime) getNextRunTime} and
+     *        {@link #skipRun(LastExecution, ZonedDateTime) skipRun} methods.
+     *        Null indicates to use the system default.
+     * @throws IllegalArgumentException if the delay is negative.
+     */
+    public FixedDelayTrigger(final Duration delay, final ZoneId zone) {
+        this(delay, delay, zone);
+    }
+
+    /**
+     * Constructor that accepts an initial delay and a delay.
+     *
+     * @param initialDelay time after the task is scheduled at which the first execution runs.
+     *        Must not be negative.
+     * @param delay time between the end of an execution and the start of the next.
+     *        Must not be negative.
+     * @param zone timezone ID to use for {@link java.time.ZonedDateTime} that is supplied to
+     *        {@link #getNextRunTime(LastExecution, ZonedDateTime) getNextRunTime} and
+     *        {@link #skipRun(LastExecution, ZonedDateTime) skipRun} methods.
+     *        Null indicates to use the system default.
+     * @throws IllegalArgumentException if the initial delay or delay is negative.
+     */
+    public FixedDelayTrigger(final Duration initialDelay, final Duration delay, final ZoneId zone) {
+        this.initialDelay = initialDelay.toMillis();
+        this.delay = delay.toMillis();
+        if (this.initialDelay < 0) {
+            throw new IllegalArgumentException("initialDelay: " + initialDelay);
+        }
+        if (this.delay < 0) {
+            throw new IllegalArgumentException("delay: " + delay);
+        }
+        this.zone = zone == null ? ZoneId.systemDefault() : zone;
+    }
+
+    /**
+     * Returns the time between the end of an execution and the start of the next.
+     *
+     * @return the delay.
+     */
+    public Duration getDelay() {
+        return Duration.ofMillis(delay);
+    }
+
+    /**
+     * Returns the time after the task is scheduled at which the first execution runs.
+     *
+     * @return the initial delay.
+     */
+    public Duration getInitialDelay() {
+        return Duration.ofMillis(initialDelay);
+    }
+
+    /**
+     * Retrieve the next time that the task should run after, which is the
+     * time at which the task was scheduled plus the initial delay for the first execution,
+     * and the end of the most recent execution plus the delay otherwise.
+     *
+     * @param lastExecutionInfo information about the last execution of the task.
+     *                          This value will be null if the task has not yet run.
+     * @param taskScheduledTime the date/time at which the
+     *                          {@code ManagedScheduledExecutorService.schedule}
+     *                          method was invoked to schedule the task.
+     * @return the date/time after which the next execution of the task should start.
+     */
+    @Override
+    public ZonedDateTime getNextRunTime(final LastExecution lastExecutionInfo, final ZonedDateTime taskScheduledTime) {
+        long time = next(lastExecutionInfo, taskScheduledTime.toInstant().toEpochMilli());
+        return ZonedDateTime.ofInstant(Instant.ofEpochMilli(time), zone);
+    }
+
+    /**
+     * Retrieve the next time that the task should run after, which is the
+     * time at which the task was scheduled plus the initial delay for the first execution,
+     * and the end of the most recent execution plus the delay otherwise.
+     * The next time is computed in epoch milliseconds, without creating <code>ZonedDateTime</code>
+     * instances for the scheduled time or result, unless a subclass overrides
+     * {@link #getNextRunTime(LastExecution, ZonedDateTime)}, in which case this method
+     * delegates to it.
+     *
+     * @param lastExecutionInfo information about the last execution of the task.
+     *                          This value will be null if the task has not yet run.
+     * @param taskScheduledTime the instant at which the
+     *                          {@code ManagedScheduledExecutorService.schedule}
+     *                          method was invoked to schedule the task.
+     * @return the instant after which the next execution of the task should start.
+     */
+    @Override
+    public Instant getNextRunTime(final LastExecution lastExecutionInfo, final Instant taskScheduledTime) {
+        if (getClass() != FixedDelayTrigger.class) {
+            return ZonedTrigger.super.getNextRunTime(lastExecutionInfo, taskScheduledTime);
+        }
+        return Instant.ofEpochMilli(next(lastExecutionInfo, taskScheduledTime.toEpochMilli()));
+    }
+
+    /**
+     * Returns the timezone to use for
+     * {@link java.time.ZonedDateTime ZonedDateTime} that is supplied to the
+     * {@link #getNextRunTime(LastExecution, java.time.ZonedDateTime) getNextRunTime} and
+     * {@link #skipRun(LastExecution, java.time.ZonedDateTime) skipRun} methods.
+     *
+     * @return timezone to use for operations on this trigger.
+     */
+    @Override
+    public final ZoneId getZoneId() {
+        return zone;
+    }
+
+    /**
+     * Return true if this run instance should be skipped.
+     * Returns false without creating a <code>ZonedDateTime</code> instance, unless a subclass
+     * overrides {@link #skipRun(LastExecution, ZonedDateTime)}, in which case this method
+     * delegates to it.
+     *
+     * @param lastExecutionInfo information about the last execution of the task.
+     *                          This value will be null if the task has not yet run.
+     * @param scheduledRunTime  the instant after which the execution of the task
+     *                          is scheduled to start.
+     * @return true if the task should be skipped and rescheduled.
+     */
+    @Override
+    public boolean skipRun(final LastExecution lastExecutionInfo, final Instant scheduledRunTime) {
+        return getClass() != FixedDelayTrigger.class && ZonedTrigger.super.skipRun(lastExecutionInfo, scheduledRunTime);
+    }
+
+    /**
+     * Readable representation of the FixedDelayTrigger.
+     * <p>
+     * For example,
+     * <pre>FixedDelayTrigger@89abcdef initialDelay PT0S, delay PT30S, America/Chicago</pre>
+     *
+     * @return readable representation of the trigger.
+     */
+    @Override
+    public String toString() {
+        return new StringBuilder("FixedDelayTrigger@").append(Integer.toHexString(hashCode()))
+                .append(" initialDelay ").append(getInitialDelay())
+                .append(", delay ").append(getDelay())
+                .append(", ").append(zone)
+                .toString();
+    }
+
+    /**
+     * Computes the next run time relative to the end of the last execution, or if the
+     * last execution was skipped, relative to the time that it was scheduled for.
+     *
+     * @param lastExecutionInfo information about the last execution of the task, or null.
+     * @param scheduledAt epoch milliseconds at which the task was scheduled.
+     * @return epoch milliseconds of the next run time.
+     */
+    private long next(final LastExecution lastExecutionInfo, final long scheduledAt) {
+        if (lastExecutionInfo == null) {
+            return scheduledAt + initialDelay;
+        }
+        ZonedDateTime runEnd = lastExecutionInfo.getRunEnd(zone);
+        if (runEnd == null) {
+            runEnd = lastExecutionInfo.getScheduledStart(zone);
+        }
+        return runEnd.toInstant().toEpochMilli() + delay;
+    }
+}
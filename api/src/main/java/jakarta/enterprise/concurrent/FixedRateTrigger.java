@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.enterprise.concurrent;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.ZoneId;
+
+/**
+ * <p>{@link Trigger} that runs a task at a fixed rate, plus a {@link ZoneId}.
+ * Executions are scheduled on a fixed grid of times, beginning at the time the
+ * task is scheduled plus an initial delay, and repeating after each period.
+ * </p>
+ * <p>When an execution ends after one or more subsequent times on the grid have already
+ * passed, the {@link CatchUp} policy determines which of the missed times the next
+ * execution is scheduled for. The next run time is computed in constant time,
+ * with integer arithmetic on milliseconds, regardless of how many times were missed.
+ * For example,
+ * <pre>
+ * trigger = new FixedRateTrigger(Duration.ofMinutes(1), Duration.ofMinutes(15),
+ *                                FixedRateTrigger.CatchUp.SKIP, ZoneId.of("America/Chicago"));
+ * </pre>
+ * <p>
+ * <code>FixedRateTrigger</code> is immutable and can be shared by any number of tasks.
+ * The {@link #skipRun(LastExecution, ZonedDateTime) skipRun} method always returns false
+ * unless overridden by a subclass.
+ *
+ * @see FixedDelayTrigger
+ * @since 3.1
+ */
+public class FixedRateTrigger implements ZonedTrigger {
+    private final CatchUp catchUp;
+    private final long initialDelay; // milliseconds
+    private final long period; // milliseconds
+    private final ZoneId zone;
+
+    /**
+     * Policies for scheduling the next execution when an execution ends after
+     * one or more subsequent run times have already passed.
+     *
+     * @since 3.1
+     */
+    public enum CatchUp {
+        /**
+         * Runs once for the most recent of the missed run times,
+         * and otherwise schedules for the next run time.
+         */
+        COALESCE,
+
+        /**
+         * Runs for every missed run time, one after the other.
+         * This matches the behavior of
+         * {@link java.util.concurrent.ScheduledExecutorService#scheduleAtFixedRate scheduleAtFixedRate}.
+         */
+        RUN_ALL,
+
+        /**
+         * Skips all missed run times and schedules for the first run time
+         * after the end of the execution.
+         */
+        SKIP
+    }
+
+    /**
+     * Constructor for a trigger that first runs one period after the task is scheduled
+     * and runs for every missed run time.
+     *
+     * @param period time between successive run times. Must be at least one millisecond.
+     * @param zone timezone ID to use for {@link java.time.ZonedDateTime} that is supplied to
+     *        {@link #getNextRunTime(LastExecution, ZonedDateTime) getNextRunTime} and
+     *        {@link #skipRun(LastExecution, ZonedDateTime) skipRun} methods.
+     *        Null indicates to use the system default.
+     * @throws IllegalArgumentException if the period is less than one millisecond.
+     */
+    public FixedRateTrigger(final Duration period, final ZoneId zone) {
+        this(period, period, CatchUp.RUN_ALL, zone);
+    }
+
+    /**
+     * Constructor that accepts an initial delay, period, and catch-up policy.
+     *
+     * @param initialDelay time after the task is scheduled at which the first execution runs.
+     *        Must not be negative.
+     * @param period time between successive run times. Must be at least one millisecond.
+     * @param catchUp policy for scheduling the next execution when run times are missed.
+     * @param zone timezone ID to use for {@link java.time.ZonedDateTime} that is supplied to
+     *        {@link #getNextRunTime(LastExecution, ZonedDateTime) getNextRunTime} and
+     *        {@link #skipRun(LastExecution, ZonedDateTime) skipRun} methods.
+     *        Null indicates to use the system default.
+     * @throws IllegalArgumentException if the initial delay is negative,
+     *         the period is less than one millisecond, or the catch-up policy is null.
+     */
+    public FixedRateTrigger(final Duration initialDelay, final Duration period, final CatchUp catchUp,
+                            final ZoneId zone) {
+        this.initialDelay = initialDelay.toMillis();
+        this.period = period.toMillis();
+        if (this.initialDelay < 0) {
+            throw new IllegalArgumentException("initialDelay: " + initialDelay);
+        }
+        if (this.period < 1) {
+            throw new IllegalArgumentException("period: " + period);
+        }
+        if (catchUp == null) {
+            throw new IllegalArgumentException("catchUp: null");
+        }
+        this.catchUp = catchUp;
+        this.zone = zone == null ? ZoneId.systemDefault() : zone;
+    }
+
+    /**
+     * Returns the policy for scheduling the next execution when run times are missed.
+     *
+     * @return the catch-up policy.
+     */
+    public CatchUp getCatchUp() {
+        return catchUp;
+    }
+
+    /**
+     * Returns the time after the task is scheduled at which the first execution runs.
+     *
+     * @return the initial delay.
+     */
+    public Duration getInitialDelay() {
+        return Duration.ofMillis(initialDelay);
+    }
+
+    /**
+     * Returns the time between successive run times.
+     *
+     * @return the period.
+     */
+    public Duration getPeriod() {
+        return Duration.ofMillis(period);
+    }
+
+    /**
+     * Retrieve the next time that the task should run after, which is the
+     * time at which the task was scheduled plus the initial delay for the first execution,
+     * and a subsequent time on the fixed-rate grid, per the catch-up policy, otherwise.
+     *
+     * @param lastExecutionInfo information about the last execution of the task.
+     *                          This value will be null if the task has not yet run.
+     * @param taskScheduledTime the date/time at which the
+     *                          {@code ManagedScheduledExecutorService.schedule}
+     *                          method was invoked to schedule the task.
+     * @return the date/time after which the next execution of the task should start.
+     */
+    @Override
+    public ZonedDateTime getNextRunTime(final LastExecution lastExecutionInfo, final ZonedDateTime taskScheduledTime) {
+        long time = next(lastExecutionInfo, taskScheduledTime.toInstant().toEpochMilli());
+        return ZonedDateTime.ofInstant(Instant.ofEpochMilli(time), zone);
+    }
+
+    /**
+     * Retrieve the next time that the task should run after, which is the
+     * time at which the task was scheduled plus the initial delay for the first execution,
+     * and a subsequent time on the fixed-rate grid, per the catch-up policy, otherwise.
+     * The next time is computed in epoch milliseconds, without creating <code>ZonedDateTime</code>
+     * instances for the scheduled time or result, unless a subclass overrides
+     * {@link #getNextRunTime(LastExecution, ZonedDateTime)}, in which case this method
+     * delegates to it.
+     *
+     * @param lastExecutionInfo information about the last execution of the task.
+     *                          This value will be null if the task has not yet run.
+     * @param taskScheduledTime the instant at which the
+     *                          {@code ManagedScheduledExecutorService.schedule}
+     *                          method was invoked to schedule the task.
+     * @return the instant after which the next execution of the task should start.
+     */
+    @Override
+    public Instant getNextRunTime(final LastExecution lastExecutionInfo, final Instant taskScheduledTime) {
+        if (getClass() != FixedRateTrigger.class) {
+            return ZonedTrigger.super.getNextRunTime(lastExecutionInfo, taskScheduledTime);
+        }
+        return Instant.ofEpochMilli(next(lastExecutionInfo, taskScheduledTime.toEpochMilli()));
+    }
+
+    /**
+     * Returns the timezone to use for
+     * {@link java.time.ZonedDateTime ZonedDateTime} that is supplied to the
+     * {@link #getNextRunTime(LastExecution, java.time.ZonedDateTime) getNextRunTime} and
+     * {@link #skipRun(LastExecution, java.time.ZonedDateTime) skipRun} methods.
+     *
+     * @return timezone to use for operations on this trigger.
+     */
+    @Override
+    public final ZoneId getZoneId() {
+        return zone;
+    }
+
+    /**
+     * Return true if this run instance should be skipped.
+     * Returns false without creating a <code>ZonedDateTime</code> instance, unless a subclass
+     * overrides {@link #skipRun(LastExecution, ZonedDateTime)}, in which case this method
+     * delegates to it.
+     *
+     * @param lastExecutionInfo information about the last execution of the task.
+     *                          This value will be null if the task has not yet run.
+     * @param scheduledRunTime  the instant after which the execution of the task
+     *                          is scheduled to start.
+     * @return true if the task should be skipped and rescheduled.
+     */
+    @Override
+    public boolean skipRun(final LastExecution lastExecutionInfo, final Instant scheduledRunTime) {
+        return getClass() != FixedRateTrigger.class && ZonedTrigger.super.skipRun(lastExecutionInfo, scheduledRunTime);
+    }
+
+    /**
+     * Readable representation of the FixedRateTrigger.
+     * <p>
+     * For example,
+     * <pre>FixedRateTrigger@89abcdef initialDelay PT1M, period PT15M, SKIP, America/Chicago</pre>
+     *
+     * @return readable representation of the trigger.
+     */
+    @Override
+    public String toString() {
+        return new StringBuilder("FixedRateTrigger@").append(Integer.toHexString(hashCode()))
+                .append(" initialDelay ").append(getInitialDelay())
+                .append(", period ").append(getPeriod())
+                .append(", ").append(catchUp)
+                .append(", ").append(zone)
+                .toString();
+    }
+
+    /**
+     * Computes the next run time on the grid of run times that begins at the time the task
+     * was scheduled plus the initial delay.
+     *
+     * @param lastExecutionInfo information about the last execution of the task, or null.
+     * @param scheduledAt epoch milliseconds at which the task was scheduled.
+     * @return epoch milliseconds of the next run time.
+     */
+    private long next(final LastExecution lastExecutionInfo, final long scheduledAt) {
+        long first = scheduledAt + initialDelay;
+        if (lastExecutionInfo == null) {
+            return first;
+        }
+
+        // index of the next run time after the one that was last scheduled
+        long lastScheduled = lastExecutionInfo.getScheduledStart(zone).toInstant().toEpochMilli();
+        long n = Math.floorDiv(lastScheduled - first, period) + 1;
+
+        if (catchUp != CatchUp.RUN_ALL) {
+            ZonedDateTime runEnd = lastExecutionInfo.getRunEnd(zone);
+            if (runEnd != null) {
+                // index of the latest run time at or before the end of the last execution
+                long latest = Math.floorDiv(runEnd.toInstant().toEpochMilli() - first, period);
+                n = Math.max(n, catchUp == CatchUp.SKIP ? latest + 1 : latest);
+            }
+        }
+        return first + n * period;
+    }
+}
@@ -16,9 +16,16 @@
 
 package jakarta.enterprise.concurrent;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.function.Supplier;
 
 /**
@@ -377,6 +384,53 @@ public interface ManagedExecutorService extends ExecutorService {
      */
     <U> CompletableFuture<U> newIncompleteFuture();
 
+    /**
+     * <p>Runs an action that performs parallel computation, such as a parallel stream
+     * or a {@link java.util.concurrent.RecursiveTask RecursiveTask}, with the thread context of
+     * this executor, and waits for it to complete. The parallel stream operations and
+     * fork/join tasks within the action run on managed threads of this executor
+     * rather than on the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool},
+     * and run with thread context that is captured once from the thread that invokes
+     * <code>parallel</code>, per the configuration of this executor's
+     * {@link #getContextService() ContextService}.</p>
+     *
+     * <p>The managed threads that run the action count against the
+     * {@link ManagedExecutorDefinition#maxAsync() maxAsync} of this executor for as long as
+     * they run it, the same as threads that run other tasks of this executor, such that
+     * parallel computation stays within the limits on concurrency of this executor
+     * rather than running on an unbounded number of threads.</p>
+     *
+     * <p>Example usage:</p>
+     * <pre>
+     * <code>long total = executor.parallel(() -&gt; orders.parallelStream()
+     *         .mapToLong(order -&gt; priceOf(order))
+     *         .sum());
+     * </code></pre>
+     *
+     * @param <T> result type of the action.
+     * @param action the action.
+     * @return the result of the action.
+     * @throws NullPointerException if the action is null.
+     * @since 3.1
+     */
+    <T> T parallel(Supplier<T> action);
+
+    /**
+     * <p>Runs an action that performs parallel computation in the same way as
+     * {@link #parallel(Supplier)}, except that no more than the specified number of
+     * managed threads of this executor run the action at the same time, within the
+     * limit of this executor's {@link ManagedExecutorDefinition#maxAsync() maxAsync}.</p>
+     *
+     * @param <T> result type of the action.
+     * @param maxParallelism maximum number of managed threads that run the action at the same time.
+     * @param action the action.
+     * @return the result of the action.
+     * @throws IllegalArgumentException if maxParallelism is less than 1.
+     * @throws NullPointerException if the action is null.
+     * @since 3.1
+     */
+    <T> T parallel(int maxParallelism, Supplier<T> action);
+
     /**
      * <p>Returns a new {@link java.util.concurrent.CompletableFuture}
      * that is completed by a task running in this executor
@@ -392,6 +446,109 @@ public interface ManagedExecutorService extends ExecutorService {
      */
     CompletableFuture<Void> runAsync(Runnable runnable);
 
+    /**
+     * <p>Returns a new {@link ManagedTaskScope} that runs subtasks on this executor,
+     * with at most the specified number of subtasks running at the same time.
+     * Subtasks run with thread context per the configuration of this executor.
+     * The first subtask to fail, a timeout while joining, or closing the scope
+     * cancels the subtasks that have not completed.</p>
+     *
+     * <p>Example usage:</p>
+     * <pre>
+     * <code>try (ManagedTaskScope scope = executor.scope(4)) {
+     *     for (Item item : items)
+     *         scope.fork(() -&gt; process(item));
+     *     scope.join(30, TimeUnit.SECONDS);
+     * }
+     * </code></pre>
+     *
+     * @param maxConcurrency maximum number of subtasks of the scope that run at the same time.
+     * @return the new scope.
+     * @throws IllegalArgumentException if maxConcurrency is less than 1.
+     * @since 3.1
+     */
+    public default ManagedTaskScope scope(int maxConcurrency) {
+        return new ManagedTaskScope(this, maxConcurrency);
+    }
+
+    /**
+     * <p>Submits a batch of value-returning tasks for execution and returns a
+     * {@link java.util.concurrent.Future} for each of them, in the same order as the tasks.</p>
+     *
+     * <p>Unlike submitting each of the tasks individually, this method allows the
+     * Jakarta EE Product Provider to capture thread context once and share it, read-only,
+     * across all of the tasks, to enqueue all of the tasks in a single operation,
+     * and to notify each {@link ManagedTaskListener} of the tasks once, with
+     * {@link ManagedTaskListener#tasksSubmitted tasksSubmitted}, rather than once per task.
+     * If any of the tasks is rejected, the futures of the tasks in the batch are canceled
+     * before the exception is raised.</p>
+     *
+     * <p>The default implementation submits each of the tasks with
+     * {@link #submit(Callable) submit}.</p>
+     *
+     * @param <T> result type of the tasks.
+     * @param tasks the tasks.
+     * @return unmodifiable list of futures for the tasks, in the same order as the tasks.
+     * @throws java.util.concurrent.RejectedExecutionException if the tasks cannot be scheduled for execution.
+     * @throws NullPointerException if the collection or any of the tasks is null.
+     * @since 3.1
+     */
+    public default <T> List<Future<T>> submitAll(Collection<? extends Callable<T>> tasks) {
+        List<Future<T>> futures = new ArrayList<>(tasks.size());
+        try {
+            for (Callable<T> task : tasks) {
+                futures.add(submit(Objects.requireNonNull(task)));
+            }
+        } catch (RuntimeException | Error x) {
+            for (Future<T> future : futures) {
+                future.cancel(false);
+            }
+            throw x;
+        }
+        return Collections.unmodifiableList(futures);
+    }
+
+    /**
+     * <p>Returns a new {@link java.util.concurrent.CompletableFuture} for each of the
+     * supplied actions, in the same order as the actions, each of which is completed
+     * by a task running in this executor with the value obtained by calling the respective
+     * action.</p>
+     *
+     * <p>Unlike invoking {@link #supplyAsync(Supplier) supplyAsync} for each of the actions,
+     * this method allows the Jakarta EE Product Provider to capture thread context once and
+     * share it, read-only, across all of the actions, and to enqueue all of the actions in a
+     * single operation. If any of the actions is rejected, the completable futures for the actions
+     * in the batch are canceled before the exception is raised.</p>
+     *
+     * <p>This executor is the default asynchronous execution facility for the new completion stages
+     * that are returned by this method and all dependent stages that are created from them,
+     * and all dependent stages that are created from those, as so forth.</p>
+     *
+     * <p>The default implementation invokes {@link #supplyAsync(Supplier) supplyAsync} for
+     * each of the actions.</p>
+     *
+     * @param <U> result type of the actions and returned completable futures.
+     * @param suppliers actions returning the values to be used to complete the returned completable futures.
+     * @return unmodifiable list of the new completable futures, in the same order as the actions.
+     * @throws java.util.concurrent.RejectedExecutionException if the actions cannot be scheduled for execution.
+     * @throws NullPointerException if the list or any of the actions is null.
+     * @since 3.1
+     */
+    public default <U> List<CompletableFuture<U>> supplyAllAsync(List<? extends Supplier<U>> suppliers) {
+        List<CompletableFuture<U>> futures = new ArrayList<>(suppliers.size());
+        try {
+            for (Supplier<U> supplier : suppliers) {
+                futures.add(supplyAsync(Objects.requireNonNull(supplier)));
+            }
+        } catch (RuntimeException | Error x) {
+            for (CompletableFuture<U> future : futures) {
+                future.cancel(false);
+            }
+            throw x;
+        }
+        return Collections.unmodifiableList(futures);
+    }
+
     /**
      * <p>Returns a new {@link java.util.concurrent.CompletableFuture}
      * that is completed by a task running in this executor
@@ -16,8 +16,15 @@
 
 package jakarta.enterprise.concurrent;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.Callable;
 
 /**
@@ -105,6 +112,7 @@ public final class ManagedExecutors {
      * specified in both.
      * After the method is called, further changes to the {@code Map}
      * object will not be reflected in the {@code Runnable} returned by this method.
+     * The execution properties of the {@code Runnable} returned by this method are read-only.
      * @return a Runnable object
      * @throws IllegalArgumentException if {@code task} is {@code null}
      */
@@ -162,6 +170,7 @@ public final class ManagedExecutors {
      * specified in both.
      * After the method is called, further changes to the {@code Map}
      * object will not be reflected in the {@code Callable} returned by this method.
+     * The execution properties of the {@code Callable} returned by this method are read-only.
      * @return a Callable object
      * @throws IllegalArgumentException if {@code task} is {@code null}
      */
@@ -174,6 +183,112 @@ public final class ManagedExecutors {
         return new CallableAdapter(task, executionProperties, taskListener);
     }
     
+    /**
+     * Returns a reusable {@link ManagedTaskTemplate} that holds a {@link ManagedTaskListener}
+     * and execution properties, for applying to any number of tasks that are submitted
+     * to a {@link ManagedExecutorService} or a {@link ManagedScheduledExecutorService}.
+     * Tasks that are returned by the template share the listener and a single, read-only
+     * snapshot of the execution properties, such that applying the template to a task
+     * only allocates a wrapper for the task. This is equivalent to, but more efficient than,
+     * invoking {@link #managedTask(Runnable, Map, ManagedTaskListener)} or
+     * {@link #managedTask(Callable, Map, ManagedTaskListener)} for each task.
+     * <p>
+     * Example:
+     * <pre>
+     * ManagedTaskTemplate template = ManagedExecutors.managedTaskTemplate(
+     *         Map.of(ManagedTask.IDENTITY_NAME, "PriceUpdate"), myTaskListener);
+     *
+     * for (Runnable update : updates) {
+     *     executor.submit(template.managedTask(update));
+     * }
+     * </pre>
+     *
+     * @param executionProperties (optional) execution properties to provide additional hints
+     * to {@link ManagedExecutorService} or {@link ManagedScheduledExecutorService}
+     * when tasks are submitted.
+     * After the method is called, further changes to the {@code Map}
+     * object will not be reflected in the template or the tasks that it returns.
+     * @param taskListener (optional) the {@code ManagedTaskListener} to receive
+     * lifecycle events notification when tasks are submitted.
+     * @return a reusable template for managed tasks.
+     * @since 3.1
+     */
+    public static ManagedTaskTemplate managedTaskTemplate(final Map<String, String> executionProperties,
+                                                          final ManagedTaskListener taskListener) {
+        return new ManagedTaskTemplate(Adapter.snapshot(executionProperties), taskListener);
+    }
+
+    /**
+     * Reusable, immutable template for managed tasks, which is obtained from
+     * {@link ManagedExecutors#managedTaskTemplate(Map, ManagedTaskListener)}.
+     * Instances can be shared across threads.
+     *
+     * @since 3.1
+     */
+    public static final class ManagedTaskTemplate {
+        private final Map<String, String> executionProperties;
+        private final ManagedTaskListener taskListener;
+
+        private ManagedTaskTemplate(final Map<String, String> executionProperties,
+                                    final ManagedTaskListener taskListener) {
+            this.executionProperties = executionProperties;
+            this.taskListener = taskListener;
+        }
+
+        /**
+         * Returns the read-only execution properties of this template.
+         *
+         * @return the execution properties, or {@code null} if none were supplied.
+         */
+        public Map<String, String> getExecutionProperties() {
+            return executionProperties;
+        }
+
+        /**
+         * Returns the {@code ManagedTaskListener} of this template.
+         *
+         * @return the listener, or {@code null} if none was supplied.
+         */
+        public ManagedTaskListener getManagedTaskListener() {
+            return taskListener;
+        }
+
+        /**
+         * Returns a {@link Runnable} object that also implements {@link ManagedTask}
+         * with the execution properties and {@code ManagedTaskListener} of this template.
+         * If {@code task} implements {@code ManagedTask}, the same rules apply as for
+         * {@link ManagedExecutors#managedTask(Runnable, Map, ManagedTaskListener)}.
+         *
+         * @param task the task to have the listener and execution properties of this template associated with.
+         * @return a Runnable object
+         * @throws IllegalArgumentException if {@code task} is {@code null}
+         */
+        public Runnable managedTask(final Runnable task) throws IllegalArgumentException {
+            if (task == null) {
+                throw new IllegalArgumentException(NULL_TASK_ERROR_MSG);
+            }
+            return new RunnableAdapter(task, this);
+        }
+
+        /**
+         * Returns a {@link Callable} object that also implements {@link ManagedTask}
+         * with the execution properties and {@code ManagedTaskListener} of this template.
+         * If {@code task} implements {@code ManagedTask}, the same rules apply as for
+         * {@link ManagedExecutors#managedTask(Callable, Map, ManagedTaskListener)}.
+         *
+         * @param task the task to have the listener and execution properties of this template associated with.
+         * @param <V> the result type of the Callable
+         * @return a Callable object
+         * @throws IllegalArgumentException if {@code task} is {@code null}
+         */
+        public <V> Callable<V> managedTask(final Callable<V> task) throws IllegalArgumentException {
+            if (task == null) {
+                throw new IllegalArgumentException(NULL_TASK_ERROR_MSG);
+            }
+            return new CallableAdapter<V>(task, this);
+        }
+    }
+
     /**
      * Adapter for Runnable to include ManagedTask interface methods.
      */
@@ -187,6 +302,11 @@ public final class ManagedExecutors {
                     task instanceof ManagedTask ? (ManagedTask) task : null);
             this.task = task;
         }
+
+        RunnableAdapter(final Runnable task, final ManagedTaskTemplate template) {
+            super(template, task instanceof ManagedTask ? (ManagedTask) task : null);
+            this.task = task;
+        }
         
         @Override
         public void run() {
@@ -208,6 +328,11 @@ public final class ManagedExecutors {
                     task instanceof ManagedTask ? (ManagedTask) task : null);
             this.task = task;
         }
+
+        CallableAdapter(final Callable<V> task, final ManagedTaskTemplate template) {
+            super(template, task instanceof ManagedTask ? (ManagedTask) task : null);
+            this.task = task;
+        }
         
         @Override
         public V call() throws Exception {
@@ -231,8 +356,16 @@ public final class ManagedExecutors {
             this.taskListener = taskListener;
             this.managedTask = managedTask;
             this.executionProperties =
-               initExecutionProperties(managedTask == null ? null : managedTask.getExecutionProperties(),
-                                       executionProperties);
+               layer(managedTask == null ? null : managedTask.getExecutionProperties(),
+                     snapshot(executionProperties));
+        }
+
+        Adapter(final ManagedTaskTemplate template, final ManagedTask managedTask) {
+            this.taskListener = template.taskListener;
+            this.managedTask = managedTask;
+            this.executionProperties =
+               managedTask == null ? template.executionProperties
+                                   : layer(managedTask.getExecutionProperties(), template.executionProperties);
         }
         
         @Override
@@ -254,20 +387,184 @@ public final class ManagedExecutors {
             return null;
         }
         
-        private Map<String, String> initExecutionProperties(final Map<String, String> base,
-                                                            final Map<String, String> override) {
-            if (base == null && override == null) {
+        /**
+         * Combines a snapshot of the execution properties of the wrapped task with a snapshot
+         * of those that are supplied to managedTask without copying both into a single hash table.
+         */
+        private static Map<String, String> layer(final Map<String, String> base, final Map<String, String> snapshot) {
+            Map<String, String> baseSnapshot = snapshot(base);
+            if (snapshot == null || baseSnapshot == null || baseSnapshot.isEmpty()) {
+                return snapshot == null ? baseSnapshot : snapshot;
+            }
+            return snapshot.isEmpty() ? baseSnapshot : new LayeredMap(baseSnapshot, snapshot);
+        }
+
+        /**
+         * Snapshots execution properties as a read-only map, because later
+         * changes to them must not be reflected.
+         */
+        static Map<String, String> snapshot(final Map<String, String> executionProperties) {
+            if (executionProperties == null) {
                 return null;
+            } else if (executionProperties.isEmpty()) {
+                return Collections.emptyMap();
+            } else if (executionProperties.size() <= CompactMap.MAX_SIZE) {
+                return new CompactMap(executionProperties);
+            } else {
+                return Collections.unmodifiableMap(new HashMap<String, String>(executionProperties));
             }
-            Map<String, String> props = new HashMap<String, String>();
-            if (base != null) {
-                props.putAll(base);
+        }
+
+    }
+
+    /**
+     * Immutable map of up to 3 execution properties, such as IDENTITY_NAME and LONGRUNNING_HINT,
+     * which are stored in a single array rather than a hash table.
+     */
+    static final class CompactMap extends AbstractMap<String, String> {
+        static final int MAX_SIZE = 3;
+
+        // keys at even indices, each followed by its value
+        private final String[] keysAndValues;
+
+        CompactMap(final Map<String, String> map) {
+            String[] kv = new String[map.size() * 2];
+            int i = 0;
+            for (Map.Entry<String, String> entry : map.entrySet()) {
+                kv[i++] = entry.getKey();
+                kv[i++] = entry.getValue();
             }
-            if (override != null) {
-                props.putAll(override);
+            keysAndValues = kv;
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return indexOf(key) >= 0;
+        }
+
+        @Override
+        public Set<Map.Entry<String, String>> entrySet() {
+            return new AbstractSet<Map.Entry<String, String>>() {
+                @Override
+                public Iterator<Map.Entry<String, String>> iterator() {
+                    return new Iterator<Map.Entry<String, String>>() {
+                        private int i;
+
+                        @Override
+                        public boolean hasNext() {
+                            return i < keysAndValues.length;
+                        }
+
+                        @Override
+                        public Map.Entry<String, String> next() {
+                            if (i >= keysAndValues.length) {
+                                throw new NoSuchElementException();
+                            }
+                            i += 2;
+                            return new AbstractMap.SimpleImmutableEntry<String, String>(
+                                    keysAndValues[i - 2], keysAndValues[i - 1]);
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return keysAndValues.length / 2;
+                }
+            };
+        }
+
+        @Override
+        public String get(final Object key) {
+            int i = indexOf(key);
+            return i < 0 ? null : keysAndValues[i + 1];
+        }
+
+        private int indexOf(final Object key) {
+            for (int i = 0; i < keysAndValues.length; i += 2) {
+                if (Objects.equals(key, keysAndValues[i])) {
+                    return i;
+                }
             }
-            return props;
+            return -1;
+        }
+
+        @Override
+        public int size() {
+            return keysAndValues.length / 2;
+        }
+    }
+
+    /**
+     * Read-only view of execution properties that are layered over the execution properties
+     * of a wrapped task, with the former taking precedence if the same key is in both.
+     */
+    static final class LayeredMap extends AbstractMap<String, String> {
+        private final Map<String, String> base;
+        private final Map<String, String> override;
+
+        LayeredMap(final Map<String, String> base, final Map<String, String> override) {
+            this.base = base;
+            this.override = override;
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return override.containsKey(key) || base.containsKey(key);
+        }
+
+        @Override
+        public Set<Map.Entry<String, String>> entrySet() {
+            return new AbstractSet<Map.Entry<String, String>>() {
+                @Override
+                public Iterator<Map.Entry<String, String>> iterator() {
+                    return new Iterator<Map.Entry<String, String>>() {
+                        private final Iterator<Map.Entry<String, String>> overrides = override.entrySet().iterator();
+                        private final Iterator<Map.Entry<String, String>> bases = base.entrySet().iterator();
+                        private Map.Entry<String, String> next;
+
+                        @Override
+                        public boolean hasNext() {
+                            while (next == null && bases.hasNext()) {
+                                Map.Entry<String, String> entry = bases.next();
+                                if (!override.containsKey(entry.getKey())) {
+                                    next = new AbstractMap.SimpleImmutableEntry<String, String>(entry);
+                                }
+                            }
+                            return next != null || overrides.hasNext();
+                        }
+
+                        @Override
+                        public Map.Entry<String, String> next() {
+                            if (overrides.hasNext()) {
+                                return overrides.next();
+                            }
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            Map.Entry<String, String> entry = next;
+                            next = null;
+                            return entry;
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    int size = override.size();
+                    for (String key : base.keySet()) {
+                        if (!override.containsKey(key)) {
+                            size++;
+                        }
+                    }
+                    return size;
+                }
+            };
+        }
+
+        @Override
+        public String get(final Object key) {
+            return override.containsKey(key) ? override.get(key) : base.get(key);
         }
-        
     }
 }
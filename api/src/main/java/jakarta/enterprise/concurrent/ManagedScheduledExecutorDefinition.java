@@ -152,6 +152,78 @@ public @interface ManagedScheduledExecutorDefinition {
      */
     int maxAsync() default -1;
 
+    /**
+     * <p>Upper bound on contextual tasks and actions that are submitted to this
+     * executor and are waiting to start because the {@link #maxAsync()} limit or
+     * the resources of the system do not allow them to run yet.
+     * When the limit is reached, further tasks and actions are handled per the
+     * {@link #rejectionPolicy()}. This constraint does not apply to
+     * tasks that are scheduled via the <code>schedule*</code> methods, which wait
+     * for their scheduled time without counting against this limit, or to tasks and actions that
+     * the executor runs inline.</p>
+     *
+     * <p>The corresponding deployment descriptor element is {@code <max-queued>}.</p>
+     *
+     * <p>The default value of <code>-1</code> indicates unbounded,
+     * although still subject to resource constraints of the system.</p>
+     *
+     * @return upper limit on tasks and actions that wait to start.
+     * @since 3.1
+     */
+    int maxQueued() default -1;
+
+    /**
+     * <p>Determines what happens to a task or action that is submitted to this
+     * executor when the {@link #maxQueued()} limit is reached.</p>
+     *
+     * <p>The corresponding deployment descriptor element is {@code <rejection-policy>}.</p>
+     *
+     * <p>The default value, {@link RejectionPolicy#ABORT ABORT}, rejects the task or action.</p>
+     *
+     * @return policy for tasks and actions that exceed the {@code maxQueued} limit.
+     * @since 3.1
+     */
+    RejectionPolicy rejectionPolicy() default RejectionPolicy.ABORT;
+
+    /**
+     * <p>The amount of time in milliseconds that a thread which submits a task or action
+     * blocks, waiting for room within the {@link #maxQueued()} limit, before the task or action
+     * is rejected. This attribute only applies to the
+     * {@link RejectionPolicy#BLOCK_WITH_TIMEOUT BLOCK_WITH_TIMEOUT} rejection policy.</p>
+     *
+     * <p>The corresponding deployment descriptor element is {@code <queue-timeout>}.</p>
+     *
+     * <p>The default value is <code>60000</code>, which is one minute.</p>
+     *
+     * @return number of milliseconds to wait for room in the queue.
+     * @since 3.1
+     */
+    long queueTimeout() default 60000;
+
+    /**
+     * <p>Indicates whether this executor is requested to run tasks and actions on
+     * virtual threads, which suits tasks and actions that spend most of their time
+     * waiting on I/O.</p>
+     *
+     * <p>When <code>true</code>, the Jakarta EE Product Provider runs each task and action on a
+     * new virtual thread, to which it applies thread context per the {@link #context()}
+     * configuration, including context from
+     * {@link jakarta.enterprise.concurrent.spi.ThreadContextProvider ThreadContextProviders},
+     * for the duration of each task or action.
+     * The {@link #maxAsync()} upper bound then limits the number of tasks and actions that
+     * run concurrently, rather than the size of a pool of threads.
+     * A Jakarta EE Product Provider or Java runtime that is not capable of creating virtual
+     * threads ignores this attribute and uses platform threads.</p>
+     *
+     * <p>The corresponding deployment descriptor element is {@code <virtual>}.</p>
+     *
+     * <p>The default value of <code>false</code> indicates platform threads.</p>
+     *
+     * @return true if tasks and actions are requested to run on virtual threads, otherwise false.
+     * @since 3.1
+     */
+    boolean virtual() default false;
+
     /**
      * Enables multiple <code>ManagedScheduledExecutorDefinition</code>
      * annotations on the same type.
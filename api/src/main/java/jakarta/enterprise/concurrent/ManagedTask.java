@@ -96,6 +96,94 @@ public interface ManagedTask {
    */
   public static final String IDENTITY_NAME = "jakarta.enterprise.concurrent.IDENTITY_NAME";
   
+  /**
+   * Execution property to be supplied to
+   * {@link ContextService#createContextualProxy(java.lang.Object, java.util.Map, java.lang.Class) ContextService.createContextualProxy()}
+   * to provide a hint that methods of the contextual proxy are invoked frequently enough that
+   * the proxy should avoid the overhead of {@link java.lang.reflect.Proxy java.lang.reflect.Proxy}.
+   * Valid values are "true" or "false".
+   * <p>
+   * When the value is "true", the Jakarta EE Product Provider may return an instance of a
+   * class that it generates once per combination of class loader and interfaces and then
+   * reuses, which applies context and invokes each interface method of the proxied instance
+   * directly, without reflection, argument arrays, or boxing. Such a proxy instance
+   * might not be an instance of a {@code java.lang.reflect.Proxy} class,
+   * but in all other respects follows the same rules as other contextual proxies:</p>
+   * <ul>
+   * <li>it implements all of the interfaces that are supplied to {@code createContextualProxy},
+   * <li>it runs interface methods with the same context,
+   *     except for the methods that are declared in {@link java.lang.Object},
+   * <li>{@link ContextService#getExecutionProperties(Object) ContextService.getExecutionProperties}
+   *     returns its execution properties, including this one, and
+   * <li>it is serializable under the same conditions.
+   * </ul>
+   * <p>
+   * Contextual proxies that are created with this hint by the same {@code ContextService}
+   * for the same interfaces, in the same order, are instances of the same class.
+   * Jakarta EE Product Providers that do not generate classes ignore this hint.
+   *
+   * @since 3.1
+   */
+  public static final String DIRECT_PROXY_HINT = "jakarta.enterprise.concurrent.DIRECT_PROXY_HINT";
+
+  /**
+   * Execution property to be returned in {@link #getExecutionProperties()} to indicate
+   * the relative priority with which a task that is submitted to a
+   * {@link ManagedExecutorService} or {@link ManagedScheduledExecutorService}
+   * is started, among the tasks of the same executor that are waiting to start,
+   * such as when the executor is at its {@link ManagedExecutorDefinition#maxAsync() maxAsync} limit.
+   * Valid values are the integers from {@link #MIN_PRIORITY} "1" to {@link #MAX_PRIORITY} "10",
+   * with higher values starting first. The default if unspecified is
+   * {@link #NORM_PRIORITY} "5", which is also used in place of values that are not valid.
+   * For example,
+   * <pre>
+   * executor.submit(ManagedExecutors.managedTask(task,
+   *         Map.of(ManagedTask.PRIORITY, ManagedTask.MAX_PRIORITY), null));
+   * </pre>
+   * <p>
+   * Tasks with the same priority start in the order in which they are submitted,
+   * or, for tasks that are scheduled, the order in which they become due.
+   * Jakarta EE Product Providers must not allow a continuous stream of
+   * higher priority tasks to prevent a waiting task from ever starting,
+   * for example, by raising the priority of tasks as they wait.
+   * Jakarta EE Product Providers should keep the cost of choosing the next task
+   * independent of the number of waiting tasks, for example, by keeping a
+   * first-in-first-out queue per priority value rather than sorting all waiting tasks.
+   * <p>
+   * This execution property does not change the priority of the thread that runs the task,
+   * and does not cause a running task to be preempted.
+   *
+   * @since 3.1
+   */
+  public static final String PRIORITY = "jakarta.enterprise.concurrent.PRIORITY";
+
+  /**
+   * Constant for the "10" value of the PRIORITY execution property,
+   * which is the highest priority.
+   * See {@link ManagedTask#PRIORITY}.
+   *
+   * @since 3.1
+   */
+  public static final String MAX_PRIORITY = "10";
+
+  /**
+   * Constant for the "1" value of the PRIORITY execution property,
+   * which is the lowest priority.
+   * See {@link ManagedTask#PRIORITY}.
+   *
+   * @since 3.1
+   */
+  public static final String MIN_PRIORITY = "1";
+
+  /**
+   * Constant for the "5" value of the PRIORITY execution property,
+   * which is the default priority.
+   * See {@link ManagedTask#PRIORITY}.
+   *
+   * @since 3.1
+   */
+  public static final String NORM_PRIORITY = "5";
+
   /**
    * The {@link ManagedTaskListener} to receive notification of lifecycle
    * events of this task.
@@ -16,6 +16,7 @@
 
 package jakarta.enterprise.concurrent;
 
+import java.util.List;
 import java.util.concurrent.Future;
 
 /**
@@ -171,6 +172,33 @@ public interface ManagedTaskListener {
   public void taskSubmitted(java.util.concurrent.Future<?> future,
                             ManagedExecutorService executor,
                             Object task);
+
+  /**
+   * Called after a batch of tasks that are submitted to the Executor with a single invocation of
+   * {@link ManagedExecutorService#submitAll(java.util.Collection) submitAll} or
+   * {@link ManagedExecutorService#supplyAllAsync(java.util.List) supplyAllAsync}
+   * has been submitted, in place of invoking {@link #taskSubmitted taskSubmitted} for each of
+   * the tasks in the batch that have this listener. None of those tasks will enter the starting
+   * state until the tasksSubmitted listener has completed.
+   * This method may be called from the same thread that the tasks were submitted with.
+   * <p>
+   * This event does not indicate that the tasks have been scheduled for execution.
+   * <p>
+   * The default implementation invokes {@link #taskSubmitted taskSubmitted} for each of the tasks,
+   * in order.
+   *
+   * @param futures the <code>Future</code> instances that were created when the tasks were submitted.
+   * @param executor the executor used to run the associated Futures.
+   * @param tasks the tasks that were submitted, in the same order as the <code>Future</code> instances.
+   * @since 3.1
+   */
+  public default void tasksSubmitted(List<? extends Future<?>> futures,
+                                     ManagedExecutorService executor,
+                                     List<?> tasks) {
+    for (int i = 0; i < futures.size(); i++) {
+      taskSubmitted(futures.get(i), executor, tasks.get(i));
+    }
+  }
   
   /**
    * Called when a task's Future has been cancelled anytime during the life of a task.
@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.enterprise.concurrent;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * <p>A scope for running a group of subtasks on a {@link ManagedExecutorService},
+ * with a bound on how many of the subtasks run at the same time, and for waiting for
+ * all of them to complete. A scope is obtained from
+ * {@link ManagedExecutorService#scope(int) ManagedExecutorService.scope}.</p>
+ *
+ * <p>Subtasks are submitted to the executor, and so run with thread context
+ * per the configuration of the executor and notify the {@link ManagedTaskListener}
+ * of subtasks that implement {@link ManagedTask}, the same as other tasks that are
+ * submitted to the executor. Subtasks in excess of the bound on concurrency wait
+ * within the scope, in the order in which they are forked, and are submitted to the
+ * executor as other subtasks complete, such that one scope cannot occupy more than
+ * its share of the executor's {@link ManagedExecutorDefinition#maxAsync() maxAsync}.</p>
+ *
+ * <p>The first subtask to fail causes all other subtasks of the scope that have not completed
+ * to be canceled, as does a timeout while joining the scope, and closing the scope.
+ * For example,
+ * <pre>
+ * try (ManagedTaskScope scope = executor.scope(4)) {
+ *     List&lt;CompletableFuture&lt;Price&gt;&gt; prices = new ArrayList&lt;&gt;();
+ *     for (Item item : order.getItems())
+ *         prices.add(scope.fork(() -&gt; priceOf(item)));
+ *     scope.join(30, TimeUnit.SECONDS);
+ *     ...
+ * }
+ * </pre>
+ *
+ * @since 3.1
+ */
+public class ManagedTaskScope implements AutoCloseable {
+    private boolean closed;
+    private final ManagedExecutorService executor;
+    private Throwable failure;
+    private final Object lock = new Object();
+    private final int maxConcurrency;
+    private final ArrayDeque<Subtask<?>> queued = new ArrayDeque<>();
+    private int running;
+    private final Set<Subtask<?>> unfinished = new LinkedHashSet<>();
+
+    /**
+     * Constructor for a scope that submits subtasks to the supplied executor.
+     *
+     * @param executor       executor to which subtasks are submitted.
+     * @param maxConcurrency maximum number of subtasks that run at the same time.
+     * @throws IllegalArgumentException if maxConcurrency is less than 1.
+     */
+    public ManagedTaskScope(final ManagedExecutorService executor, final int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency: " + maxConcurrency);
+        }
+        this.executor = executor;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Cancels all subtasks that have not completed, and prevents additional subtasks
+     * from being forked.
+     */
+    @Override
+    public void close() {
+        synchronized (lock) {
+            closed = true;
+        }
+        cancelUnfinished();
+    }
+
+    /**
+     * Forks a subtask, which is submitted to the executor immediately if fewer than the
+     * maximum number of subtasks are running, and otherwise once enough of the other
+     * subtasks complete.
+     * If a subtask of the scope has already failed, the subtask is canceled rather than run.
+     *
+     * @param <T>  result type of the subtask.
+     * @param task the subtask.
+     * @return completable future for the result of the subtask. Canceling the completable
+     *         future cancels the subtask.
+     * @throws IllegalStateException if the scope is closed.
+     * @throws NullPointerException if the subtask is null.
+     */
+    public <T> CompletableFuture<T> fork(final Callable<T> task) {
+        Subtask<T> subtask = new Subtask<>(task, executor.<T>newIncompleteFuture());
+        boolean accepted;
+        boolean start = false;
+        synchronized (lock) {
+            if (closed) {
+                throw new IllegalStateException("closed");
+            }
+            accepted = failure == null;
+            if (accepted) {
+                unfinished.add(subtask);
+                if (running < maxConcurrency) {
+                    running++;
+                    subtask.started = true;
+                    start = true;
+                } else {
+                    queued.add(subtask);
+                }
+            }
+        }
+        if (accepted) {
+            subtask.result.whenComplete((r, x) -> done(subtask, x));
+            if (start) {
+                subtask.start();
+            }
+        } else {
+            subtask.result.cancel(false);
+        }
+        return subtask.result;
+    }
+
+    /**
+     * Waits for all subtasks that have been forked to complete.
+     *
+     * @throws ExecutionException   if a subtask failed, with the failure of the first
+     *                              subtask to fail as the cause.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    public void join() throws ExecutionException, InterruptedException {
+        synchronized (lock) {
+            while (!unfinished.isEmpty()) {
+                lock.wait();
+            }
+            if (failure != null) {
+                throw new ExecutionException(failure);
+            }
+        }
+    }
+
+    /**
+     * Waits for all subtasks that have been forked to complete, up to the specified timeout,
+     * after which all subtasks that have not completed are canceled.
+     *
+     * @param timeout maximum time to wait.
+     * @param unit    unit of the timeout.
+     * @throws ExecutionException   if a subtask failed, with the failure of the first
+     *                              subtask to fail as the cause.
+     * @throws InterruptedException if interrupted while waiting.
+     * @throws TimeoutException     if the subtasks did not complete within the timeout.
+     */
+    public void join(final long timeout, final TimeUnit unit)
+            throws ExecutionException, InterruptedException, TimeoutException {
+        long remaining = unit.toNanos(timeout);
+        long deadline = System.nanoTime() + remaining;
+        synchronized (lock) {
+            while (!unfinished.isEmpty() && remaining > 0) {
+                TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+                remaining = deadline - System.nanoTime();
+            }
+            if (unfinished.isEmpty()) {
+                if (failure != null) {
+                    throw new ExecutionException(failure);
+                }
+                return;
+            }
+        }
+        cancelUnfinished();
+        throw new TimeoutException();
+    }
+
+    /**
+     * Cancels all subtasks that have not completed. Waiting subtasks are removed from
+     * the queue first, so that canceling a running subtask does not start one of them.
+     */
+    private void cancelUnfinished() {
+        List<Subtask<?>> subtasks;
+        synchronized (lock) {
+            queued.clear();
+            subtasks = new ArrayList<>(unfinished);
+        }
+        for (Subtask<?> subtask : subtasks) {
+            subtask.result.cancel(true);
+        }
+    }
+
+    /**
+     * Invoked when a subtask completes, whether successfully, exceptionally, or by being canceled.
+     * Starts the next subtask that is waiting to run, or, if the subtask failed,
+     * cancels all subtasks that have not completed.
+     *
+     * @param subtask the subtask.
+     * @param x       failure of the subtask, or null if successful.
+     */
+    private void done(final Subtask<?> subtask, final Throwable x) {
+        boolean failed = false;
+        Subtask<?> next = null;
+        synchronized (lock) {
+            if (!unfinished.remove(subtask)) {
+                return;
+            }
+            if (x != null && !(x instanceof CancellationException) && failure == null) {
+                failure = x;
+                failed = true;
+            }
+            if (subtask.started) {
+                running--;
+                if (failure == null && !closed) {
+                    next = queued.poll();
+                    if (next != null) {
+                        running++;
+                        next.started = true;
+                    }
+                }
+            } else {
+                queued.remove(subtask);
+            }
+            if (unfinished.isEmpty()) {
+                lock.notifyAll();
+            }
+        }
+        Future<?> future = subtask.future;
+        if (future != null && subtask.result.isCancelled()) {
+            future.cancel(true);
+        }
+        if (failed) {
+            cancelUnfinished();
+        }
+        if (next != null) {
+            next.start();
+        }
+    }
+
+    /**
+     * A subtask and the completable future for its result.
+     *
+     * @param <T> result type of the subtask.
+     */
+    private final class Subtask<T> implements Runnable {
+        private volatile Future<?> future;
+        private final CompletableFuture<T> result;
+        private boolean started; // guarded by lock
+        private final Callable<T> task;
+
+        private Subtask(final Callable<T> task, final CompletableFuture<T> result) {
+            if (task == null) {
+                throw new NullPointerException();
+            }
+            this.result = result;
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            if (!result.isDone()) {
+                try {
+                    result.complete(task.call());
+                } catch (Throwable x) {
+                    result.completeExceptionally(x);
+                }
+            }
+        }
+
+        /**
+         * Submits the subtask to the executor, preserving the execution properties and
+         * listener of a subtask that implements {@link ManagedTask}.
+         */
+        private void start() {
+            Runnable runnable = this;
+            if (task instanceof ManagedTask) {
+                ManagedTask managedTask = (ManagedTask) task;
+                runnable = ManagedExecutors.managedTask(this, managedTask.getExecutionProperties(),
+                        managedTask.getManagedTaskListener());
+            }
+            try {
+                future = executor.submit(runnable);
+            } catch (RuntimeException x) {
+                result.completeExceptionally(x);
+                return;
+            }
+            if (result.isCancelled()) {
+                future.cancel(true);
+            }
+        }
+    }
+}
@@ -35,7 +35,9 @@ import java.util.concurrent.ThreadFactory;
  * resource environment reference appropriately.<p>
  *
  * Threads returned from the {@code newThread()} method should implement the
- * {@link ManageableThread} interface.
+ * {@link ManageableThread} interface, except for virtual threads, which are created
+ * instead of platform threads when the thread factory is configured as
+ * {@link ManagedThreadFactoryDefinition#virtual() virtual}.
  *
  * The Runnable task that is allocated to the new thread using the
  * {@link ThreadFactory#newThread(Runnable)} method
@@ -129,6 +129,32 @@ public @interface ManagedThreadFactoryDefinition {
      */
     int priority() default Thread.NORM_PRIORITY;
 
+    /**
+     * <p>Indicates whether this thread factory is requested to create virtual threads.</p>
+     *
+     * <p>When <code>true</code>, the {@link ManagedThreadFactory#newThread(Runnable) newThread}
+     * method creates virtual threads, to which thread context is applied in the same way as
+     * for platform threads. Because a virtual thread cannot be an instance of a
+     * custom subclass of {@link java.lang.Thread}, virtual threads do not implement
+     * {@link ManageableThread}, and {@link ManagedExecutors#isCurrentThreadShutdown()}
+     * returns <code>false</code> on them. Virtual threads always have the priority
+     * {@link java.lang.Thread#NORM_PRIORITY}, and so the {@link #priority()} attribute
+     * does not apply to them. A Jakarta EE Product Provider or Java runtime that is not capable
+     * of creating virtual threads ignores this attribute and creates platform threads.</p>
+     *
+     * <p>Virtual threads are not created for the
+     * {@link java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory#newThread(java.util.concurrent.ForkJoinPool)
+     * ForkJoinWorkerThreadFactory.newThread} method, which always creates platform threads.</p>
+     *
+     * <p>The corresponding deployment descriptor element is {@code <virtual>}.</p>
+     *
+     * <p>The default value of <code>false</code> indicates platform threads.</p>
+     *
+     * @return true if the thread factory is requested to create virtual threads, otherwise false.
+     * @since 3.1
+     */
+    boolean virtual() default false;
+
     /**
      * Enables multiple <code>ManagedThreadFactoryDefinition</code>
      * annotations on the same type.
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.enterprise.concurrent;
+
+/**
+ * Policies for handling a task or action that is submitted to a
+ * {@link ManagedExecutorService} when the number of tasks and actions that are
+ * waiting to start has reached the {@link ManagedExecutorDefinition#maxQueued() maxQueued}
+ * limit of the executor.
+ * <p>
+ * The policy is configured with the {@code rejectionPolicy} attribute of
+ * {@link ManagedExecutorDefinition} and {@link ManagedScheduledExecutorDefinition},
+ * or the corresponding {@code <rejection-policy>} deployment descriptor element.
+ * For example,
+ * <pre>
+ * {@literal @}ManagedExecutorDefinition(
+ *     name = "java:module/concurrent/BatchExecutor",
+ *     maxAsync = 4,
+ *     maxQueued = 100,
+ *     rejectionPolicy = RejectionPolicy.CALLER_RUNS)
+ * </pre>
+ *
+ * @since 3.1
+ */
+public enum RejectionPolicy {
+    /**
+     * The submit, execute, or other method that submits the task or action raises
+     * {@link java.util.concurrent.RejectedExecutionException RejectedExecutionException}
+     * and the task or action does not run. Methods that return a
+     * {@link java.util.concurrent.CompletionStage CompletionStage}, such as
+     * {@link ManagedExecutorService#supplyAsync(java.util.function.Supplier) supplyAsync}
+     * and the dependent stage methods, instead return a stage that completes exceptionally
+     * with the <code>RejectedExecutionException</code>.
+     * If the task is a {@link ManagedTask} with a {@link ManagedTaskListener},
+     * the listener is not notified.
+     */
+    ABORT,
+
+    /**
+     * Blocks the submitting thread until there is room for the task or action
+     * in the queue, or until the {@code queueTimeout} elapses, after which the task or
+     * action is rejected as described under {@link #ABORT}.
+     * The submitting thread does not block if it is a thread of the executor itself,
+     * in which case the task or action is rejected immediately, to avoid a deadlock.
+     */
+    BLOCK_WITH_TIMEOUT,
+
+    /**
+     * Runs the task or action on the submitting thread, with the thread context that
+     * the executor would otherwise apply, before the method that submits it returns.
+     * This slows down the rate at which the submitting thread can submit further work.
+     * The task or action does not count against the
+     * {@link ManagedExecutorDefinition#maxAsync() maxAsync} limit of the executor.
+     * If the executor is shut down, the task or action is rejected
+     * as described under {@link #ABORT} instead.
+     */
+    CALLER_RUNS,
+
+    /**
+     * Aborts the task or action that has waited longest in the queue to make room for the
+     * new one. The {@link java.util.concurrent.Future Future} of the aborted task raises
+     * {@link AbortedException} with a
+     * {@link java.util.concurrent.RejectedExecutionException RejectedExecutionException} cause,
+     * and if the aborted task is a {@link ManagedTask} with a {@link ManagedTaskListener},
+     * the listener is notified via
+     * {@link ManagedTaskListener#taskAborted taskAborted}.
+     * This suits tasks for which only the most recent submissions are of interest.
+     */
+    DROP_OLDEST
+}
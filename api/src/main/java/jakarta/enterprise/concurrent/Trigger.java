@@ -128,5 +128,52 @@ public interface Trigger {
    */
   public boolean skipRun(LastExecution lastExecutionInfo,
                          java.util.Date scheduledRunTime);
-  
+
+  /**
+   * Retrieve the next time that the task should run after.
+   * <p>
+   * This method allows a {@link ManagedScheduledExecutorService} to compute run times
+   * from epoch-based time values. Trigger implementations can override it to avoid
+   * creating <code>Date</code> instances.
+   * The default implementation delegates to the method signature that
+   * accepts and returns <code>Date</code>.
+   *
+   * @param lastExecutionInfo information about the last execution of the task.
+   *                   This value will be null if the task has not yet run.
+   * @param taskScheduledTime the instant at which the task was scheduled using
+   *                          the {@code ManagedScheduledExecutorService.schedule}
+   *                          method.
+   * @return the instant at which the next task iteration should execute on or
+   *         after.
+   * @throws IllegalArgumentException if the scheduled time is too large to represent as a <code>Date</code>.
+   * @since 3.1
+   */
+  public default java.time.Instant getNextRunTime(LastExecution lastExecutionInfo,
+                                                  java.time.Instant taskScheduledTime) {
+    java.util.Date nextTime = getNextRunTime(lastExecutionInfo, java.util.Date.from(taskScheduledTime));
+    return nextTime == null ? null : nextTime.toInstant();
+  }
+
+  /**
+   * Return true if this run instance should be skipped.
+   * <p>
+   * This method allows a {@link ManagedScheduledExecutorService} to check for skipped
+   * runs from epoch-based time values. Trigger implementations can override it to avoid
+   * creating <code>Date</code> instances.
+   * The default implementation delegates to the method signature that
+   * accepts <code>Date</code>.
+   *
+   * @param lastExecutionInfo information about the last execution of the task.
+   *                   This value will be null if the task has not yet run.
+   * @param scheduledRunTime the instant that the task was originally scheduled
+   *                         to run.
+   * @return true if the task should be skipped and rescheduled.
+   * @throws IllegalArgumentException if the scheduled time is too large to represent as a <code>Date</code>.
+   * @since 3.1
+   */
+  public default boolean skipRun(LastExecution lastExecutionInfo,
+                                 java.time.Instant scheduledRunTime) {
+    return skipRun(lastExecutionInfo, java.util.Date.from(scheduledRunTime));
+  }
+
 }
@@ -16,9 +16,12 @@
 
 package jakarta.enterprise.concurrent;
 
+import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.time.ZoneId;
 import java.util.Date;
+import java.util.Objects;
+import java.util.stream.Stream;
 
 /**
  * Triggers allow application developers to plug in rules for when
@@ -89,7 +92,8 @@ public interface ZonedTrigger extends Trigger {
      * <P>
      * This method is provided to maintain compatibility with {@link Trigger} and should not be
      * implemented. The default implementation delegates to the method signature that
-     * accepts and returns <code>ZonedDateTime</code>.
+     * accepts and returns <code>Instant</code>, which by default delegates to the method
+     * signature that accepts and returns <code>ZonedDateTime</code>.
      *
      * @param lastExecutionInfo information about the last execution of the task.
      *                          This value will be null if the task has not yet run.
@@ -100,8 +104,88 @@ public interface ZonedTrigger extends Trigger {
      * @throws IllegalArgumentException if the next run time is too large to represent as a <code>Date</code>.
      */
     public default Date getNextRunTime(LastExecution lastExecutionInfo, Date taskScheduledTime) {
-        ZonedDateTime nextTime = getNextRunTime(lastExecutionInfo, taskScheduledTime.toInstant().atZone(getZoneId()));
-        return nextTime == null ? null : Date.from(nextTime.toInstant());
+        Instant nextTime = getNextRunTime(lastExecutionInfo, taskScheduledTime.toInstant());
+        return nextTime == null ? null : Date.from(nextTime);
+    }
+
+    /**
+     * Retrieve the next time that the task should run after.
+     * <P>
+     * This method allows a {@link ManagedScheduledExecutorService} to compute run times
+     * from epoch-based time values. Implementations can override it to avoid creating
+     * <code>ZonedDateTime</code> instances, provided that the result is the same as
+     * the method signature that accepts and returns <code>ZonedDateTime</code>.
+     * The default implementation delegates to the method signature that
+     * accepts and returns <code>ZonedDateTime</code>.
+     *
+     * @param lastExecutionInfo information about the last execution of the task.
+     *                          This value will be null if the task has not yet run.
+     * @param taskScheduledTime the instant at which the
+     *                          {@code ManagedScheduledExecutorService.schedule}
+     *                          method was invoked to schedule the task.
+     * @return the instant after which the next execution of the task should start.
+     * @since 3.1
+     */
+    @Override
+    public default Instant getNextRunTime(LastExecution lastExecutionInfo, Instant taskScheduledTime) {
+        ZonedDateTime nextTime = getNextRunTime(lastExecutionInfo, taskScheduledTime.atZone(getZoneId()));
+        return nextTime == null ? null : nextTime.toInstant();
+    }
+
+    /**
+     * Computes the upcoming run times of this trigger, such as for displaying a preview of
+     * a schedule, without scheduling a task.
+     * <P>
+     * Run times are computed as if each execution starts at its run time and completes
+     * immediately after. The first run time is computed with a <code>null</code>
+     * <code>LastExecution</code>. Each subsequent run time is computed from a
+     * <code>LastExecution</code> for the prior run time, with the same <code>from</code>
+     * value as the task scheduled time. The {@link #skipRun(LastExecution, ZonedDateTime) skipRun}
+     * method is not consulted. The stream ends when {@link #getNextRunTime(LastExecution, ZonedDateTime)
+     * getNextRunTime} returns <code>null</code>, and is otherwise unbounded. For example,
+     * <pre>
+     * List&lt;ZonedDateTime&gt; preview = trigger.nextRunTimes(ZonedDateTime.now(trigger.getZoneId()))
+     *                                   .limit(500)
+     *                                   .collect(Collectors.toList());
+     * </pre>
+     * <P>
+     * The default implementation invokes <code>getNextRunTime</code> once per run time.
+     * Implementations such as {@link CronTrigger} can override this method to carry the
+     * computation forward from one run time to the next.
+     *
+     * @param from the date/time from which to compute run times, which takes the place of
+     *             the date/time at which the task is scheduled.
+     * @return sequential, ordered stream of the upcoming run times.
+     * @since 3.1
+     */
+    public default Stream<ZonedDateTime> nextRunTimes(ZonedDateTime from) {
+        return Stream.iterate(getNextRunTime(null, from), Objects::nonNull, runTime ->
+            getNextRunTime(new LastExecution() {
+                @Override
+                public String getIdentityName() {
+                    return null;
+                }
+
+                @Override
+                public Object getResult() {
+                    return null;
+                }
+
+                @Override
+                public ZonedDateTime getScheduledStart(ZoneId zone) {
+                    return runTime.withZoneSameInstant(zone);
+                }
+
+                @Override
+                public ZonedDateTime getRunStart(ZoneId zone) {
+                    return runTime.withZoneSameInstant(zone);
+                }
+
+                @Override
+                public ZonedDateTime getRunEnd(ZoneId zone) {
+                    return runTime.plusNanos(1).withZoneSameInstant(zone);
+                }
+            }, from));
     }
 
     /**
@@ -149,7 +233,8 @@ public interface ZonedTrigger extends Trigger {
      * <P>
      * This method is provided to maintain compatibility with {@link Trigger} and should not be
      * implemented. The default implementation delegates to the method signature that
-     * accepts <code>ZonedDateTime</code>.
+     * accepts <code>Instant</code>, which by default delegates to the method
+     * signature that accepts <code>ZonedDateTime</code>.
      *
      * @param lastExecutionInfo information about the last execution of the task.
      *                          This value will be null if the task has not yet run.
@@ -158,6 +243,28 @@ public interface ZonedTrigger extends Trigger {
      * @return true if the task should be skipped and rescheduled.
      */
     public default boolean skipRun(LastExecution lastExecutionInfo, Date scheduledRunTime) {
-        return skipRun(lastExecutionInfo, scheduledRunTime.toInstant().atZone(getZoneId()));
+        return skipRun(lastExecutionInfo, scheduledRunTime.toInstant());
+    }
+
+    /**
+     * Return true if this run instance should be skipped.
+     * <P>
+     * This method allows a {@link ManagedScheduledExecutorService} to check for skipped
+     * runs from epoch-based time values. Implementations can override it to avoid creating
+     * <code>ZonedDateTime</code> instances, provided that the result is the same as
+     * the method signature that accepts <code>ZonedDateTime</code>.
+     * The default implementation delegates to the method signature that
+     * accepts <code>ZonedDateTime</code>.
+     *
+     * @param lastExecutionInfo information about the last execution of the task.
+     *                          This value will be null if the task has not yet run.
+     * @param scheduledRunTime  the instant after which the execution of the task
+     *                          is scheduled to start.
+     * @return true if the task should be skipped and rescheduled.
+     * @since 3.1
+     */
+    @Override
+    public default boolean skipRun(LastExecution lastExecutionInfo, Instant scheduledRunTime) {
+        return skipRun(lastExecutionInfo, scheduledRunTime.atZone(getZoneId()));
     }
 }
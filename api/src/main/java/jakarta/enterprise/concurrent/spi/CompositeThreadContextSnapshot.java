@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.enterprise.concurrent.spi;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An immutable snapshot that combines the snapshots of multiple
+ * thread context types, such that the Jakarta EE Product Provider
+ * can apply all of them to a thread with a single invocation of
+ * {@link #begin begin} and restore all of them with a single invocation of
+ * {@link ThreadContextRestorer#endContext endContext}.
+ * <p>
+ * The snapshots are kept in an array and are applied in the order in which they
+ * are supplied, skipping those that are {@link ThreadContextSnapshot#isAlreadyActive already active}
+ * on the thread. The prior context is restored in reverse order.
+ * If applying a snapshot fails, the snapshots that were already applied
+ * are restored in reverse order before the failure is raised.
+ * If restoring the prior context for a snapshot fails, the prior context
+ * is still restored for the remaining snapshots, after which the first
+ * failure is raised, with any subsequent failures added to it as suppressed.
+ * <p>
+ * For example,
+ * <pre>
+ * ThreadContextSnapshot snapshot = new CompositeThreadContextSnapshot(
+ *         securityProvider.currentContext(props),
+ *         namingProvider.currentContext(props),
+ *         txProvider.clearedContext(props));
+ * ...
+ * ThreadContextRestorer restorer = snapshot.begin();
+ * try {
+ *     task.run();
+ * } finally {
+ *     restorer.endContext();
+ * }
+ * </pre>
+ *
+ * @since 3.1
+ */
+public final class CompositeThreadContextSnapshot implements ThreadContextSnapshot {
+    private final ThreadContextSnapshot[] snapshots;
+
+    /**
+     * Combines the supplied snapshots into a single snapshot.
+     *
+     * @param snapshots snapshots of thread context types, in the order in which to apply them.
+     *        Snapshots that are themselves {@code CompositeThreadContextSnapshot} are flattened.
+     * @throws NullPointerException if {@code snapshots} is null or contains a null element.
+     */
+    public CompositeThreadContextSnapshot(final List<? extends ThreadContextSnapshot> snapshots) {
+        this(snapshots.toArray(new ThreadContextSnapshot[snapshots.size()]));
+    }
+
+    /**
+     * Combines the supplied snapshots into a single snapshot.
+     *
+     * @param snapshots snapshots of thread context types, in the order in which to apply them.
+     *        Snapshots that are themselves {@code CompositeThreadContextSnapshot} are flattened.
+     * @throws NullPointerException if {@code snapshots} is null or contains a null element.
+     */
+    public CompositeThreadContextSnapshot(final ThreadContextSnapshot... snapshots) {
+        int count = 0;
+        for (ThreadContextSnapshot snapshot : snapshots) {
+            count += snapshot instanceof CompositeThreadContextSnapshot
+                    ? ((CompositeThreadContextSnapshot) snapshot).snapshots.length
+                    : 1;
+        }
+        ThreadContextSnapshot[] flattened = new ThreadContextSnapshot[count];
+        int i = 0;
+        for (ThreadContextSnapshot snapshot : snapshots) {
+            if (snapshot instanceof CompositeThreadContextSnapshot) {
+                ThreadContextSnapshot[] nested = ((CompositeThreadContextSnapshot) snapshot).snapshots;
+                System.arraycopy(nested, 0, flattened, i, nested.length);
+                i += nested.length;
+            } else if (snapshot == null) {
+                throw new NullPointerException();
+            } else {
+                flattened[i++] = snapshot;
+            }
+        }
+        this.snapshots = flattened;
+    }
+
+    /**
+     * Applies each of the captured thread context snapshots to the current thread,
+     * in order, and returns a single {@link ThreadContextRestorer} that restores
+     * the prior context for all of them, in reverse order.
+     * Snapshots that are {@link ThreadContextSnapshot#isAlreadyActive already active}
+     * on the thread are skipped, as are restorers that are {@link ThreadContextRestorer#NOOP NOOP}.
+     *
+     * @return restorer instance that reverts the state of all of the context types
+     *         on the thread to what it was prior to applying this snapshot.
+     *         {@link ThreadContextRestorer#NOOP NOOP} if there is nothing to restore.
+     */
+    @Override
+    public ThreadContextRestorer begin() {
+        ThreadContextRestorer[] restorers = null;
+        int count = 0;
+        try {
+            for (ThreadContextSnapshot snapshot : snapshots) {
+                if (!snapshot.isAlreadyActive()) {
+                    ThreadContextRestorer restorer = snapshot.begin();
+                    if (restorer != ThreadContextRestorer.NOOP) {
+                        if (restorers == null) {
+                            restorers = new ThreadContextRestorer[snapshots.length];
+                        }
+                        restorers[count++] = restorer;
+                    }
+                }
+            }
+        } catch (RuntimeException | Error x) {
+            endContext(restorers, count, x);
+            throw x;
+        }
+        if (restorers == null) {
+            return ThreadContextRestorer.NOOP;
+        }
+        return count == 1 ? restorers[0] : new Restorer(restorers, count);
+    }
+
+    /**
+     * Indicates whether the captured thread context of every snapshot that is combined
+     * by this snapshot is already present on the current thread.
+     *
+     * @return true if all of the snapshots are already active on the current thread, otherwise false.
+     */
+    @Override
+    public boolean isAlreadyActive() {
+        for (ThreadContextSnapshot snapshot : snapshots) {
+            if (!snapshot.isAlreadyActive()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the snapshots that are combined by this snapshot, in the order in which they are applied.
+     *
+     * @return unmodifiable list of snapshots.
+     */
+    public List<ThreadContextSnapshot> getSnapshots() {
+        return List.of(snapshots);
+    }
+
+    @Override
+    public String toString() {
+        return "CompositeThreadContextSnapshot" + Arrays.toString(snapshots);
+    }
+
+    /**
+     * Restores the prior context for the first {@code count} restorers, in reverse order,
+     * continuing past failures.
+     *
+     * @param restorers restorers that were obtained by applying snapshots.
+     * @param count     number of restorers to end.
+     * @param failure   failure that already occurred, or null.
+     * @return the supplied failure or otherwise the first failure to restore context,
+     *         with any subsequent failures added as suppressed. Null if none.
+     */
+    private static Throwable endContext(final ThreadContextRestorer[] restorers, final int count,
+                                        final Throwable failure) {
+        Throwable first = failure;
+        for (int i = count - 1; i >= 0; i--) {
+            try {
+                restorers[i].endContext();
+            } catch (RuntimeException | Error x) {
+                if (first == null) {
+                    first = x;
+                } else {
+                    first.addSuppressed(x);
+                }
+            }
+        }
+        return first;
+    }
+
+    /**
+     * Restores the prior context for all of the snapshots that were applied by a single
+     * invocation of {@link CompositeThreadContextSnapshot#begin begin}.
+     */
+    private static final class Restorer implements ThreadContextRestorer {
+        private final int count;
+        private boolean ended;
+        private final ThreadContextRestorer[] restorers;
+
+        private Restorer(final ThreadContextRestorer[] restorers, final int count) {
+            this.restorers = restorers;
+            this.count = count;
+        }
+
+        @Override
+        public void endContext() throws IllegalStateException {
+            if (ended) {
+                throw new IllegalStateException();
+            }
+            ended = true;
+
+            Throwable failure = CompositeThreadContextSnapshot.endContext(restorers, count, null);
+            if (failure instanceof Error) {
+                throw (Error) failure;
+            } else if (failure != null) {
+                throw (RuntimeException) failure;
+            }
+        }
+    }
+}
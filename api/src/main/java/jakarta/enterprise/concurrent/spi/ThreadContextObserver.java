@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.enterprise.concurrent.spi;
+
+/**
+ * Receives the duration of each operation that the Jakarta EE Product Provider
+ * performs on a {@link ThreadContextProvider} or on the snapshots and restorers that it
+ * creates, so that the cost of capturing and applying each type of thread context
+ * can be monitored.
+ * <p>
+ * The Jakarta EE Product Provider may use the {@code ServiceLoader} to identify
+ * implementations of {@code ThreadContextObserver}, and can obtain a
+ * {@link ThreadContextPlan} that reports to an observer from
+ * {@link ThreadContextPlan#withObserver withObserver}.
+ * When no observer is registered, the Jakarta EE Product Provider does not
+ * read the time or otherwise measure thread context operations.
+ * <p>
+ * Observers are invoked inline on the threads that capture and apply context,
+ * including concurrently, and must be thread safe. Observers should record
+ * measurements quickly, such as by updating counters, and must not raise exceptions.
+ * For example,
+ * <pre>
+ * public class ContextTimer implements ThreadContextObserver {
+ *     private final Map&lt;String, LongAdder&gt; totals = new ConcurrentHashMap&lt;&gt;();
+ *
+ *     public void observe(String threadContextType, Operation operation, long nanos) {
+ *         totals.computeIfAbsent(threadContextType + ' ' + operation, k -&gt; new LongAdder())
+ *               .add(nanos);
+ *     }
+ * }
+ * </pre>
+ *
+ * @since 3.1
+ */
+@FunctionalInterface
+public interface ThreadContextObserver {
+    /**
+     * Operations on thread context that are reported to observers.
+     *
+     * @since 3.1
+     */
+    public enum Operation {
+        /**
+         * {@link ThreadContextSnapshot#begin ThreadContextSnapshot.begin}
+         */
+        BEGIN,
+
+        /**
+         * {@link ThreadContextProvider#clearedContext ThreadContextProvider.clearedContext}
+         */
+        CLEARED_CONTEXT,
+
+        /**
+         * {@link ThreadContextProvider#currentContext ThreadContextProvider.currentContext}
+         */
+        CURRENT_CONTEXT,
+
+        /**
+         * {@link ThreadContextProvider#deferredContext ThreadContextProvider.deferredContext}
+         */
+        DEFERRED_CONTEXT,
+
+        /**
+         * {@link ThreadContextRestorer#endContext ThreadContextRestorer.endContext}
+         */
+        END_CONTEXT
+    }
+
+    /**
+     * Invoked after each operation on thread context completes,
+     * whether successfully or by raising an exception.
+     *
+     * @param threadContextType the {@link ThreadContextProvider#getThreadContextType type}
+     *        of thread context.
+     * @param operation         the operation.
+     * @param nanos             elapsed time of the operation, in nanoseconds, as measured by
+     *                          {@link System#nanoTime()}.
+     */
+    public void observe(String threadContextType, Operation operation, long nanos);
+}
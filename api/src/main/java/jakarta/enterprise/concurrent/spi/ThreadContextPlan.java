@@ -0,0 +1,440 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.enterprise.concurrent.spi;
+
+import jakarta.enterprise.concurrent.ContextServiceDefinition;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An immutable plan for capturing thread context per the configuration of a
+ * {@link ContextServiceDefinition}, which the Jakarta EE Product Provider
+ * resolves once against the available {@link ThreadContextProvider ThreadContextProviders}
+ * and then reuses each time it creates a contextual task or action.
+ * <p>
+ * Resolving the plan assigns each thread context provider to the
+ * {@link ContextServiceDefinition#propagated() propagated},
+ * {@link ContextServiceDefinition#cleared() cleared}, or
+ * {@link ContextServiceDefinition#unchanged() unchanged} context types,
+ * including those that are covered by {@link ContextServiceDefinition#ALL_REMAINING ALL_REMAINING},
+ * and keeps the providers of propagated and cleared context in an array,
+ * in the order in which they are supplied. Capturing thread context with the plan
+ * is then a single pass over that array, without consulting the configuration again.
+ * Context types that are configured but for which no thread context provider is supplied,
+ * such as built-in context types that the Jakarta EE Product Provider implements itself,
+ * are not part of the plan.
+ * <p>
+ * For example,
+ * <pre>
+ * ThreadContextPlan plan = ThreadContextPlan.of(definition,
+ *         ServiceLoader.load(ThreadContextProvider.class));
+ * ...
+ * ThreadContextSnapshot snapshot = plan.capture(executionProperties);
+ * </pre>
+ *
+ * @since 3.1
+ */
+public final class ThreadContextPlan {
+    /**
+     * Upper bound on the number of distinct sets of execution properties for which
+     * cleared context is cached, such that execution properties which vary per task,
+     * such as {@link jakarta.enterprise.concurrent.ManagedTask#IDENTITY_NAME IDENTITY_NAME},
+     * cannot grow the cache without limit.
+     */
+    static final int MAX_CACHED_PROPERTIES = 32;
+
+    private final boolean[] clear;
+    private final ThreadContextSnapshot[] clearedSnapshots; // for empty execution properties
+    private final ConcurrentHashMap<Map<String, String>, ThreadContextSnapshot[]> clearedSnapshotsByProps;
+    private final ThreadContextObserver observer;
+    private final ThreadContextProvider[] providers;
+    private final ThreadContextProvider[] unchanged;
+
+    private ThreadContextPlan(final List<ThreadContextProvider> applied, final List<Boolean> clear,
+                              final List<ThreadContextProvider> unchanged) {
+        int size = applied.size();
+        this.providers = applied.toArray(new ThreadContextProvider[size]);
+        this.unchanged = unchanged.toArray(new ThreadContextProvider[unchanged.size()]);
+        this.clear = new boolean[size];
+        this.clearedSnapshots = new ThreadContextSnapshot[size];
+        this.observer = null;
+        boolean cacheable = false;
+        for (int i = 0; i < size; i++) {
+            this.clear[i] = clear.get(i);
+            if (this.clear[i] && providers[i].isClearedContextCacheable()) {
+                clearedSnapshots[i] = providers[i].clearedContext(Collections.emptyMap());
+                cacheable = true;
+            }
+        }
+        this.clearedSnapshotsByProps = cacheable ? new ConcurrentHashMap<>() : null;
+    }
+
+    private ThreadContextPlan(final ThreadContextPlan plan, final ThreadContextObserver observer) {
+        this.clear = plan.clear;
+        this.clearedSnapshots = plan.clearedSnapshots;
+        this.clearedSnapshotsByProps = plan.clearedSnapshotsByProps;
+        this.observer = observer;
+        this.providers = plan.providers;
+        this.unchanged = plan.unchanged;
+    }
+
+    /**
+     * Resolves a plan for the context types that are configured by a
+     * {@link ContextServiceDefinition}.
+     *
+     * @param definition configuration of the context service.
+     * @param providers  available thread context providers, typically as found by the
+     *                   {@code ServiceLoader}.
+     * @return the plan.
+     * @throws IllegalArgumentException if a context type appears in more than one of the
+     *         lists, or if more than one provider is supplied for the same context type.
+     */
+    public static ThreadContextPlan of(final ContextServiceDefinition definition,
+                                       final Iterable<? extends ThreadContextProvider> providers) {
+        return of(definition.propagated(), definition.cleared(), definition.unchanged(), providers);
+    }
+
+    /**
+     * Resolves a plan for the supplied lists of context types, such as those that are
+     * configured by a {@code context-service} deployment descriptor element.
+     * If {@link ContextServiceDefinition#ALL_REMAINING ALL_REMAINING} is not present
+     * in any of the lists, it is implicitly appended to the cleared context types.
+     *
+     * @param propagated types of context to capture and propagate.
+     * @param cleared    types of context to clear.
+     * @param unchanged  types of context to leave unchanged.
+     * @param providers  available thread context providers, typically as found by the
+     *                   {@code ServiceLoader}.
+     * @return the plan.
+     * @throws IllegalArgumentException if a context type appears in more than one of the
+     *         lists, or if more than one provider is supplied for the same context type.
+     */
+    public static ThreadContextPlan of(final String[] propagated, final String[] cleared, final String[] unchanged,
+                                       final Iterable<? extends ThreadContextProvider> providers) {
+        Map<String, List<ThreadContextProvider>> lists = new HashMap<>();
+        List<ThreadContextProvider> propagatedProviders = new ArrayList<>();
+        List<ThreadContextProvider> clearedProviders = new ArrayList<>();
+        List<ThreadContextProvider> unchangedProviders = new ArrayList<>();
+        assign(lists, propagated, propagatedProviders);
+        assign(lists, cleared, clearedProviders);
+        assign(lists, unchanged, unchangedProviders);
+        List<ThreadContextProvider> remaining = lists.getOrDefault(ContextServiceDefinition.ALL_REMAINING,
+                clearedProviders);
+
+        List<ThreadContextProvider> applied = new ArrayList<>();
+        List<Boolean> clear = new ArrayList<>();
+        Map<String, ThreadContextProvider> types = new HashMap<>();
+        for (ThreadContextProvider provider : providers) {
+            String type = provider.getThreadContextType();
+            ThreadContextProvider previous = types.putIfAbsent(type, provider);
+            if (previous != null) {
+                throw new IllegalArgumentException(type + ": " + previous + ", " + provider);
+            }
+            List<ThreadContextProvider> list = lists.getOrDefault(type, remaining);
+            if (list == unchangedProviders) {
+                unchangedProviders.add(provider);
+            } else {
+                applied.add(provider);
+                clear.add(list == clearedProviders);
+            }
+        }
+        return new ThreadContextPlan(applied, clear, unchangedProviders);
+    }
+
+    /**
+     * Records the list to which each of the context types belongs.
+     *
+     * @param lists map of context type to list.
+     * @param types context types that belong to the list.
+     * @param list  the list.
+     * @throws IllegalArgumentException if a context type already belongs to a different list.
+     */
+    private static void assign(final Map<String, List<ThreadContextProvider>> lists, final String[] types,
+                               final List<ThreadContextProvider> list) {
+        for (String type : types) {
+            List<ThreadContextProvider> previous = lists.putIfAbsent(type, list);
+            if (previous != null && previous != list) {
+                throw new IllegalArgumentException(type);
+            }
+        }
+    }
+
+    /**
+     * Captures thread context from the current thread for the propagated context types
+     * and obtains empty/cleared context for the cleared context types, in the order in
+     * which the providers were supplied to the plan.
+     * Empty/cleared context is reused from the plan rather than requested again
+     * for providers that indicate it is {@link ThreadContextProvider#isClearedContextCacheable()
+     * cacheable}. The plan caches it per set of execution properties, for up to
+     * {@value #MAX_CACHED_PROPERTIES} distinct sets of execution properties, in addition to none.
+     *
+     * @param props execution properties of the task or contextual proxy. Null or empty if none.
+     * @return snapshot of all of the context types in the plan, to be applied to the thread that
+     *         runs the task or action.
+     */
+    public ThreadContextSnapshot capture(final Map<String, String> props) {
+        return capture(props, false);
+    }
+
+    /**
+     * Captures thread context in the same way as {@link #capture capture}, except that
+     * context of the propagated context types is obtained from
+     * {@link ThreadContextProvider#deferredContext deferredContext}, which allows providers
+     * to capture an immutable token in place of the full context.
+     * This is used for contextual tasks and actions that are created by a
+     * {@link jakarta.enterprise.concurrent.ContextService#withDeferredCapture() deferred capture}
+     * {@code ContextService}.
+     *
+     * @param props execution properties of the task or contextual proxy. Null or empty if none.
+     * @return snapshot of all of the context types in the plan, to be applied to the thread that
+     *         runs the task or action.
+     */
+    public ThreadContextSnapshot captureDeferred(final Map<String, String> props) {
+        return capture(props, true);
+    }
+
+    /**
+     * Captures or clears context for each of the providers in the plan.
+     *
+     * @param props    execution properties of the task or contextual proxy. Null or empty if none.
+     * @param deferred whether to obtain propagated context from {@code deferredContext}.
+     * @return snapshot of all of the context types in the plan.
+     */
+    private ThreadContextSnapshot capture(final Map<String, String> props, final boolean deferred) {
+        Map<String, String> p = props == null ? Collections.emptyMap() : props;
+        ThreadContextSnapshot[] cached = cachedClearedSnapshots(p);
+        ThreadContextSnapshot[] snapshots = new ThreadContextSnapshot[providers.length];
+        if (observer != null) {
+            for (int i = 0; i < providers.length; i++) {
+                snapshots[i] = captureObserved(i, p, cached, deferred);
+            }
+        } else {
+            for (int i = 0; i < providers.length; i++) {
+                ThreadContextSnapshot snapshot;
+                if (!clear[i]) {
+                    snapshot = deferred ? providers[i].deferredContext(p) : providers[i].currentContext(p);
+                } else if (cached != null && cached[i] != null) {
+                    snapshot = cached[i];
+                } else {
+                    snapshot = providers[i].clearedContext(p);
+                }
+                snapshots[i] = snapshot;
+            }
+        }
+        return new CompositeThreadContextSnapshot(snapshots);
+    }
+
+    /**
+     * Obtains the cached empty/cleared context for the supplied execution properties,
+     * computing and caching it if the cache has room.
+     *
+     * @param props execution properties of the task or contextual proxy. Empty if none.
+     * @return cached snapshots, indexed by provider, with null for providers whose
+     *         cleared context is not cached. Null if none are cached.
+     */
+    private ThreadContextSnapshot[] cachedClearedSnapshots(final Map<String, String> props) {
+        if (clearedSnapshotsByProps == null) {
+            return null;
+        }
+        if (props.isEmpty()) {
+            return clearedSnapshots;
+        }
+        ThreadContextSnapshot[] cached = clearedSnapshotsByProps.get(props);
+        if (cached == null && clearedSnapshotsByProps.size() < MAX_CACHED_PROPERTIES) {
+            Map<String, String> key = Collections.unmodifiableMap(new HashMap<>(props));
+            cached = new ThreadContextSnapshot[providers.length];
+            for (int i = 0; i < providers.length; i++) {
+                if (clearedSnapshots[i] != null) {
+                    cached[i] = providers[i].clearedContext(key);
+                }
+            }
+            ThreadContextSnapshot[] previous = clearedSnapshotsByProps.putIfAbsent(key, cached);
+            if (previous != null) {
+                cached = previous;
+            }
+        }
+        return cached;
+    }
+
+    /**
+     * Captures or clears context for one of the providers in the plan, reporting the duration
+     * to the observer, and returns a snapshot that reports the duration of applying and
+     * restoring context to the observer.
+     *
+     * @param i        index of the provider.
+     * @param props    execution properties of the task or contextual proxy.
+     * @param cached   cached empty/cleared context, indexed by provider. Null if none.
+     * @param deferred whether to obtain propagated context from {@code deferredContext}.
+     * @return snapshot that reports to the observer.
+     */
+    private ThreadContextSnapshot captureObserved(final int i, final Map<String, String> props,
+                                                  final ThreadContextSnapshot[] cached, final boolean deferred) {
+        ThreadContextProvider provider = providers[i];
+        String type = provider.getThreadContextType();
+        ThreadContextSnapshot snapshot;
+        if (clear[i] && cached != null && cached[i] != null) {
+            snapshot = cached[i];
+        } else {
+            ThreadContextObserver.Operation operation = clear[i] ? ThreadContextObserver.Operation.CLEARED_CONTEXT
+                    : deferred ? ThreadContextObserver.Operation.DEFERRED_CONTEXT
+                    : ThreadContextObserver.Operation.CURRENT_CONTEXT;
+            long start = System.nanoTime();
+            try {
+                snapshot = clear[i] ? provider.clearedContext(props)
+                        : deferred ? provider.deferredContext(props)
+                        : provider.currentContext(props);
+            } finally {
+                observer.observe(type, operation, System.nanoTime() - start);
+            }
+        }
+        return new ObservedSnapshot(snapshot, type, observer);
+    }
+
+    /**
+     * Returns the observer to which this plan reports the duration of thread context operations.
+     *
+     * @return the observer, or null if none.
+     */
+    public ThreadContextObserver getObserver() {
+        return observer;
+    }
+
+    /**
+     * Returns the providers of context types that are cleared, in the order in which they are applied.
+     *
+     * @return unmodifiable list of providers.
+     */
+    public List<ThreadContextProvider> getCleared() {
+        List<ThreadContextProvider> list = new ArrayList<>();
+        for (int i = 0; i < providers.length; i++) {
+            if (clear[i]) {
+                list.add(providers[i]);
+            }
+        }
+        return Collections.unmodifiableList(list);
+    }
+
+    /**
+     * Returns the providers of context types that are propagated, in the order in which they are applied.
+     *
+     * @return unmodifiable list of providers.
+     */
+    public List<ThreadContextProvider> getPropagated() {
+        List<ThreadContextProvider> list = new ArrayList<>();
+        for (int i = 0; i < providers.length; i++) {
+            if (!clear[i]) {
+                list.add(providers[i]);
+            }
+        }
+        return Collections.unmodifiableList(list);
+    }
+
+    /**
+     * Returns the providers of context types that are left unchanged.
+     *
+     * @return unmodifiable list of providers.
+     */
+    public List<ThreadContextProvider> getUnchanged() {
+        return List.of(unchanged);
+    }
+
+    /**
+     * Returns a plan that is the same as this plan, except that it reports the duration of
+     * each operation on thread context to the supplied observer. This includes the operations
+     * on the providers when capturing context and the operations on the resulting snapshots and
+     * restorers when applying and restoring context.
+     * A plan that has no observer does not measure thread context operations.
+     *
+     * @param observer the observer, or null to obtain a plan that does not report to an observer.
+     * @return plan that reports to the observer.
+     */
+    public ThreadContextPlan withObserver(final ThreadContextObserver observer) {
+        return observer == this.observer ? this : new ThreadContextPlan(this, observer);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder b = new StringBuilder("ThreadContextPlan propagated [");
+        for (int i = 0, n = 0; i < providers.length; i++) {
+            if (!clear[i]) {
+                b.append(n++ == 0 ? "" : ", ").append(providers[i].getThreadContextType());
+            }
+        }
+        b.append("], cleared [");
+        for (int i = 0, n = 0; i < providers.length; i++) {
+            if (clear[i]) {
+                b.append(n++ == 0 ? "" : ", ").append(providers[i].getThreadContextType());
+            }
+        }
+        b.append("], unchanged [");
+        for (int i = 0; i < unchanged.length; i++) {
+            b.append(i == 0 ? "" : ", ").append(unchanged[i].getThreadContextType());
+        }
+        return b.append(']').toString();
+    }
+
+    /**
+     * Snapshot that reports the duration of applying context and of restoring the prior context.
+     */
+    private static final class ObservedSnapshot implements ThreadContextSnapshot {
+        private final ThreadContextObserver observer;
+        private final ThreadContextSnapshot snapshot;
+        private final String type;
+
+        private ObservedSnapshot(final ThreadContextSnapshot snapshot, final String type,
+                                 final ThreadContextObserver observer) {
+            this.observer = observer;
+            this.snapshot = snapshot;
+            this.type = type;
+        }
+
+        @Override
+        public ThreadContextRestorer begin() {
+            ThreadContextRestorer restorer;
+            long start = System.nanoTime();
+            try {
+                restorer = snapshot.begin();
+            } finally {
+                observer.observe(type, ThreadContextObserver.Operation.BEGIN, System.nanoTime() - start);
+            }
+            if (restorer == ThreadContextRestorer.NOOP) {
+                return restorer;
+            }
+            return () -> {
+                long begin = System.nanoTime();
+                try {
+                    restorer.endContext();
+                } finally {
+                    observer.observe(type, ThreadContextObserver.Operation.END_CONTEXT, System.nanoTime() - begin);
+                }
+            };
+        }
+
+        @Override
+        public boolean isAlreadyActive() {
+            return snapshot.isAlreadyActive();
+        }
+
+        @Override
+        public String toString() {
+            return snapshot.toString();
+        }
+    }
+}
@@ -88,6 +88,62 @@ public interface ThreadContextProvider {
      */
     public ThreadContextSnapshot clearedContext(Map<String, String> props);
 
+    /**
+     * Indicates whether the snapshot that is returned by {@link #clearedContext clearedContext}
+     * depends only on the execution properties that are supplied to it, and not on the
+     * thread that requests it or the time at which it is requested.
+     * <p>
+     * When this method returns true, the Jakarta EE Product Provider can invoke
+     * {@code clearedContext} once per distinct set of execution properties and reuse the
+     * resulting snapshot for every task and contextual proxy that clears this type of
+     * context with the same execution properties, including on other threads.
+     * When this method returns false, the Jakarta EE Product Provider must invoke
+     * {@code clearedContext} each time it needs empty/cleared context of this type.
+     * <p>
+     * The default implementation returns false.
+     *
+     * @return true if empty/cleared context snapshots can be cached and reused, otherwise false.
+     * @since 3.1
+     */
+    public default boolean isClearedContextCacheable() {
+        return false;
+    }
+
+    /**
+     * Captures from the current thread an immutable token from which a snapshot of the
+     * provided thread context type can be obtained later, if and when the snapshot is
+     * {@link ThreadContextSnapshot#begin applied} to a thread.
+     * <p>
+     * The Jakarta EE Product Provider invokes this method instead of
+     * {@link #currentContext currentContext} when a contextual task or action is created by a
+     * {@code ContextService} that was obtained from
+     * {@link jakarta.enterprise.concurrent.ContextService#withDeferredCapture() withDeferredCapture},
+     * so that the cost of fully capturing context is avoided for contextual tasks and
+     * actions that never run.
+     * <p>
+     * Deferring is only valid for context types where the token fully determines the context
+     * that is applied, regardless of changes to the requesting thread after this method
+     * returns. For example, a naming or class loader context provider might capture a
+     * reference to the immutable metadata of the application component, from which it resolves
+     * the namespace or class loader when the snapshot is applied. Context types that are
+     * held as mutable state of the requesting thread cannot be deferred, and providers
+     * of those types must not override this method.
+     * <p>
+     * The default implementation returns the result of {@link #currentContext currentContext},
+     * which fully captures the context without deferring.
+     *
+     * @param props execution properties, which are optionally provided
+     *        by some types of tasks and contextual proxies.
+     *        Thread context providers that do not supply or use execution properties
+     *        can ignore this parameter.
+     * @return immutable snapshot of the provided type of context, captured from the
+     *         current thread.
+     * @since 3.1
+     */
+    public default ThreadContextSnapshot deferredContext(Map<String, String> props) {
+        return currentContext(props);
+    }
+
     /**
      * Returns a human readable identifier for the type of thread context that is
      * captured by this {@code ThreadContextProvider} implementation.
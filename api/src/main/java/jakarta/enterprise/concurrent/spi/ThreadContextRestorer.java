@@ -20,6 +20,19 @@ package jakarta.enterprise.concurrent.spi;
  */
 @FunctionalInterface
 public interface ThreadContextRestorer {
+    /**
+     * Restorer that does nothing, which a {@link ThreadContextSnapshot} can return from
+     * {@link ThreadContextSnapshot#begin begin} when the captured thread context is already
+     * present on the thread, such that there is nothing to apply or restore.
+     * Unlike other restorers, which are distinct per invocation of {@code begin}, this restorer
+     * is a shared instance and does not raise {@link IllegalStateException} from
+     * {@link #endContext endContext}.
+     *
+     * @since 3.1
+     */
+    public static final ThreadContextRestorer NOOP = () -> {
+    };
+
     /**
      * Invoked by the Jakarta EE Product Provider to remove the thread context that
      * the {@link ThreadContextSnapshot} began on this thread and restore the previous
@@ -26,6 +26,10 @@ package jakarta.enterprise.concurrent.spi;
  * {@link ThreadContextRestorer} instance that this
  * {@code ThreadContextSnapshot} creates each time it is applied
  * to a thread.
+ * <p>
+ * The Jakarta EE Product Provider can combine the snapshots of multiple
+ * thread context types into a {@link CompositeThreadContextSnapshot}
+ * in order to apply and restore all of them at once.
  *
  * @since 3.0
  */
@@ -51,4 +55,28 @@ public interface ThreadContextSnapshot {
      *         on the thread to what it was prior to applying this snapshot.
      */
     public ThreadContextRestorer begin();
+
+    /**
+     * Indicates whether the captured thread context is already present on the
+     * current thread, such that applying it would not change anything.
+     * For example, when the snapshot is of the same application class loader
+     * or the same security subject that is already on the thread.
+     * <p>
+     * When this method returns true, the Jakarta EE Product Provider can skip
+     * invoking {@link #begin begin} and the corresponding
+     * {@link ThreadContextRestorer#endContext endContext}.
+     * The Jakarta EE Product Provider is not required to invoke this method,
+     * and so implementations of {@code begin} must still behave correctly
+     * if invoked when this method would return true. Those implementations can return
+     * {@link ThreadContextRestorer#NOOP} rather than a distinct restorer.
+     * <p>
+     * The default implementation returns false.
+     *
+     * @return true if the captured thread context is already present on the current thread,
+     *         otherwise false.
+     * @since 3.1
+     */
+    public default boolean isAlreadyActive() {
+        return false;
+    }
 }
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.enterprise.concurrent;
+
+import static org.junit.Assert.*;
+
+import jakarta.enterprise.concurrent.spi.CompositeThreadContextSnapshot;
+import jakarta.enterprise.concurrent.spi.ThreadContextRestorer;
+import jakarta.enterprise.concurrent.spi.ThreadContextSnapshot;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class CompositeThreadContextSnapshotTest {
+
+    /**
+     * Snapshot that records when it is applied and restored, and optionally fails to do so.
+     */
+    static class RecordingSnapshot implements ThreadContextSnapshot {
+        final boolean failBegin, failEnd;
+        final List<String> log;
+        final String name;
+
+        RecordingSnapshot(String name, List<String> log, boolean failBegin, boolean failEnd) {
+            this.name = name;
+            this.log = log;
+            this.failBegin = failBegin;
+            this.failEnd = failEnd;
+        }
+
+        @Override
+        public ThreadContextRestorer begin() {
+            if (failBegin) {
+                throw new IllegalStateException("begin " + name);
+            }
+            log.add("begin " + name);
+            return () -> {
+                log.add("end " + name);
+                if (failEnd) {
+                    throw new IllegalStateException("end " + name);
+                }
+            };
+        }
+    }
+
+    /**
+     * Apply and restore multiple snapshots, including a nested composite, with a single restorer.
+     */
+    @Test
+    public void testBeginAndEndInReverseOrder() {
+        List<String> log = new ArrayList<String>();
+        ThreadContextSnapshot snapshot = new CompositeThreadContextSnapshot(
+                new RecordingSnapshot("A", log, false, false),
+                new CompositeThreadContextSnapshot(List.of(
+                        new RecordingSnapshot("B", log, false, false),
+                        new ThreadPrioritySnapshot(4))),
+                new RecordingSnapshot("C", log, false, false));
+        assertEquals(4, ((CompositeThreadContextSnapshot) snapshot).getSnapshots().size());
+
+        Thread.currentThread().setPriority(6);
+        ThreadContextRestorer restorer = snapshot.begin();
+        assertEquals(4, Thread.currentThread().getPriority());
+        restorer.endContext();
+        assertEquals(6, Thread.currentThread().getPriority());
+
+        assertEquals(List.of("begin A", "begin B", "begin C", "end C", "end B", "end A"), log);
+
+        try {
+            restorer.endContext();
+            fail("Restorer must not end context twice.");
+        } catch (IllegalStateException x) {
+            // expected
+        }
+    }
+
+    /**
+     * Snapshots that are already active on the thread are skipped, as are NOOP restorers.
+     */
+    @Test
+    public void testSkipAlreadyActive() {
+        List<String> log = new ArrayList<String>();
+        ThreadContextSnapshot active = new RecordingSnapshot("A", log, false, false) {
+            @Override
+            public boolean isAlreadyActive() {
+                return true;
+            }
+        };
+        ThreadContextSnapshot noop = () -> ThreadContextRestorer.NOOP;
+        assertFalse(noop.isAlreadyActive());
+
+        assertTrue(new CompositeThreadContextSnapshot(active, active).isAlreadyActive());
+
+        ThreadContextSnapshot snapshot = new CompositeThreadContextSnapshot(active, noop);
+        assertFalse(snapshot.isAlreadyActive());
+        assertSame(ThreadContextRestorer.NOOP, snapshot.begin());
+
+        snapshot = new CompositeThreadContextSnapshot(active, new RecordingSnapshot("B", log, false, false), noop,
+                new RecordingSnapshot("C", log, false, false));
+        assertFalse(snapshot.isAlreadyActive());
+        ThreadContextRestorer restorer = snapshot.begin();
+        restorer.endContext();
+        assertEquals(List.of("begin B", "begin C", "end C", "end B"), log);
+
+        ThreadContextRestorer.NOOP.endContext();
+        ThreadContextRestorer.NOOP.endContext();
+    }
+
+    /**
+     * When a snapshot fails to apply, the snapshots that were already applied are restored.
+     */
+    @Test
+    public void testBeginFails() {
+        List<String> log = new ArrayList<String>();
+        ThreadContextSnapshot snapshot = new CompositeThreadContextSnapshot(
+                new RecordingSnapshot("A", log, false, false),
+                new RecordingSnapshot("B", log, false, true),
+                new RecordingSnapshot("C", log, true, false));
+        try {
+            snapshot.begin();
+            fail("Snapshot C must fail to begin.");
+        } catch (IllegalStateException x) {
+            assertEquals("begin C", x.getMessage());
+            assertEquals(1, x.getSuppressed().length);
+            assertEquals("end B", x.getSuppressed()[0].getMessage());
+        }
+        assertEquals(List.of("begin A", "begin B", "end B", "end A"), log);
+    }
+
+    /**
+     * When the prior context fails to be restored, the remaining context is still restored.
+     */
+    @Test
+    public void testEndFails() {
+        List<String> log = new ArrayList<String>();
+        ThreadContextRestorer restorer = new CompositeThreadContextSnapshot(
+                new RecordingSnapshot("A", log, false, true),
+                new RecordingSnapshot("B", log, false, false),
+                new RecordingSnapshot("C", log, false, true)).begin();
+        try {
+            restorer.endContext();
+            fail("Restorers for C and A must fail.");
+        } catch (IllegalStateException x) {
+            assertEquals("end C", x.getMessage());
+            assertEquals(1, x.getSuppressed().length);
+            assertEquals("end A", x.getSuppressed()[0].getMessage());
+        }
+        assertEquals(List.of("begin A", "begin B", "begin C", "end C", "end B", "end A"), log);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.enterprise.concurrent;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.LongSupplier;
+import java.util.function.ToDoubleFunction;
+
+import org.junit.Test;
+
+/**
+ * Tests of the default methods of ContextService.
+ */
+public class ContextServiceTest {
+
+    @Test
+    public void testContextualRunnables() throws Exception {
+        ThreadPriorityContextService contextSvc = new ThreadPriorityContextService();
+        List<Integer> priorities = new ArrayList<>();
+        List<Runnable> tasks = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            tasks.add(() -> priorities.add(Thread.currentThread().getPriority()));
+        }
+
+        int originalPriority = Thread.currentThread().getPriority();
+        List<Runnable> contextualTasks;
+        try {
+            Thread.currentThread().setPriority(3);
+            contextualTasks = contextSvc.contextualRunnables(tasks);
+            assertEquals(3, contextualTasks.size());
+            assertEquals(1, contextSvc.captures.get());
+
+            Thread.currentThread().setPriority(4);
+            for (Runnable task : contextualTasks) {
+                task.run();
+            }
+            assertEquals(Arrays.asList(3, 3, 3), priorities);
+            assertEquals(4, Thread.currentThread().getPriority());
+            assertEquals(1, contextSvc.captures.get());
+        } finally {
+            Thread.currentThread().setPriority(originalPriority);
+        }
+
+        try {
+            contextualTasks.add(() -> {});
+            fail("List must be unmodifiable.");
+        } catch (UnsupportedOperationException x) {
+            // pass
+        }
+    }
+
+    @Test
+    public void testPrimitiveFunctionalInterfaces() throws Exception {
+        ThreadPriorityContextService contextSvc = new ThreadPriorityContextService();
+
+        int originalPriority = Thread.currentThread().getPriority();
+        try {
+            Thread.currentThread().setPriority(2);
+            IntFunction<String> intFunction = contextSvc.contextualIntFunction(
+                    i -> i + ":" + Thread.currentThread().getPriority());
+            LongSupplier longSupplier = contextSvc.contextualLongSupplier(
+                    () -> Thread.currentThread().getPriority() * 10L);
+            ToDoubleFunction<String> toDoubleFunction = contextSvc.contextualToDoubleFunction(
+                    s -> Double.parseDouble(s) + Thread.currentThread().getPriority());
+            int[] consumed = new int[2];
+            IntConsumer intConsumer = contextSvc.contextualIntConsumer(
+                    i -> consumed[i] = Thread.currentThread().getPriority());
+            assertEquals(4, contextSvc.captures.get());
+
+            Thread.currentThread().setPriority(7);
+            assertEquals("5:2", intFunction.apply(5));
+            assertEquals(20L, longSupplier.getAsLong());
+            assertEquals(2.5, toDoubleFunction.applyAsDouble("0.5"), 0.0);
+            intConsumer.accept(1);
+            assertEquals(2, consumed[1]);
+            assertEquals(7, Thread.currentThread().getPriority());
+            assertEquals(4, contextSvc.captures.get());
+        } finally {
+            Thread.currentThread().setPriority(originalPriority);
+        }
+    }
+
+    @Test (expected = NullPointerException.class)
+    public void testContextualRunnables_null_element() throws Exception {
+        new ThreadPriorityContextService().contextualRunnables(Arrays.asList(() -> {}, null));
+    }
+}
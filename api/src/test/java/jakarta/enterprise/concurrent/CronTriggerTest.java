@@ -19,9 +19,13 @@ package jakarta.enterprise.concurrent;
 import static org.junit.Assert.*;
 
 import java.time.DayOfWeek;
+import java.time.Instant;
 import java.time.Month;
 import java.time.ZonedDateTime;
 import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.Test;
 
@@ -507,6 +511,31 @@ public class CronTriggerTest {
         assertEquals(ZonedDateTime.of(2021, 4, 1, 0, 0, 0, 0, Pacific), time);  // Thursday
     }
 
+    /**
+     * Hours that precede the first hour in the cron expression advance to the first hour of the same day.
+     */
+    @Test
+    public void testHoursBeforeFirstHourOfDay() {
+        ZoneId UTC = ZoneId.of("UTC");
+
+        CronTrigger trigger = new CronTrigger("0 9,14 * * *", UTC);
+
+        ZonedDateTime scheduledAt = ZonedDateTime.of(
+                2021, 1, 1, // Friday, January 1, 2021
+                5, 0, 0, 0, // 5:00 AM
+                trigger.getZoneId());
+
+        ZonedDateTime time;
+        time = trigger.getNextRunTime(null, scheduledAt);
+        assertEquals(ZonedDateTime.of(2021, 1, 1, 9, 0, 0, 0, UTC), time);
+
+        time = trigger.getNextRunTime(new LastExecutionImpl(1, time), scheduledAt);
+        assertEquals(ZonedDateTime.of(2021, 1, 1, 14, 0, 0, 0, UTC), time);
+
+        time = trigger.getNextRunTime(new LastExecutionImpl(2, time), scheduledAt);
+        assertEquals(ZonedDateTime.of(2021, 1, 2, 9, 0, 0, 0, UTC), time);
+    }
+
     /**
      * Specify hours as a cron expression.
      * This also covers crossing out of Daylight Saving Time.
@@ -792,6 +821,116 @@ public class CronTriggerTest {
         assertEquals(ZonedDateTime.of(2025, 5, 30, 0, 0, 0, 0, Japan), time); // May - 31 day month
     }
 
+    /**
+     * Compute the next run time from Instant and Date, which ought to match the
+     * next run time that is computed from ZonedDateTime.
+     */
+    @Test
+    public void testInstantAndDate() {
+        ZoneId NewYork = ZoneId.of("America/New_York");
+
+        CronTrigger trigger = new CronTrigger("0 */30 1-3 * MAR,NOV SUN", NewYork);
+
+        ZonedDateTime scheduledAt = ZonedDateTime.of(
+                2022, 3, 13, // Sunday, March 13, 2022, on which Daylight Saving Time begins
+                1, 40, 0, 0, // 1:40 AM
+                trigger.getZoneId());
+
+        Instant instant = trigger.getNextRunTime(null, scheduledAt.toInstant());
+        assertEquals(ZonedDateTime.of(2022, 3, 13, 3, 0, 0, 0, NewYork).toInstant(), instant);
+
+        ZonedDateTime time = trigger.getNextRunTime(null, scheduledAt);
+        for (int i = 1; i < 20; i++) {
+            LastExecution lastExec = new LastExecutionImpl(i, time);
+            time = trigger.getNextRunTime(lastExec, scheduledAt);
+            instant = trigger.getNextRunTime(lastExec, scheduledAt.toInstant());
+            assertEquals(time.toInstant(), instant);
+            assertEquals(Date.from(instant), trigger.getNextRunTime(lastExec, Date.from(scheduledAt.toInstant())));
+        }
+
+        assertFalse(trigger.skipRun(null, instant));
+        assertFalse(trigger.skipRun(null, Date.from(instant)));
+
+        // a subclass that overrides getNextRunTime(LastExecution, ZonedDateTime) is used for Instant and Date
+        PayrollTrigger payroll = new PayrollTrigger();
+        scheduledAt = ZonedDateTime.of(2022, 4, 16, 12, 0, 0, 0, payroll.getZoneId());
+        assertEquals(ZonedDateTime.of(2022, 4, 29, 10, 0, 0, 0, payroll.getZoneId()).toInstant(), // Friday
+                     payroll.getNextRunTime(null, scheduledAt.toInstant()));
+    }
+
+    /**
+     * Compute upcoming run times as a stream, which ought to be the same as those that
+     * getNextRunTime computes, including for subclasses that override getNextRunTime.
+     */
+    @Test
+    public void testNextRunTimes() {
+        ZoneId Chicago = ZoneId.of("America/Chicago");
+
+        CronTrigger trigger = new CronTrigger("0 30 9,17 * * MON,FRI", Chicago);
+
+        ZonedDateTime scheduledAt = ZonedDateTime.of(
+                2021, 11, 4, // Thursday, November 4, 2021
+                18, 0, 0, 0, // 6:00 PM
+                trigger.getZoneId());
+
+        assertEquals(List.of(ZonedDateTime.of(2021, 11, 5, 9, 30, 0, 0, Chicago), // Friday
+                             ZonedDateTime.of(2021, 11, 5, 17, 30, 0, 0, Chicago),
+                             ZonedDateTime.of(2021, 11, 8, 9, 30, 0, 0, Chicago), // Monday, after DST ends
+                             ZonedDateTime.of(2021, 11, 8, 17, 30, 0, 0, Chicago)),
+                     trigger.nextRunTimes(scheduledAt).limit(4).collect(Collectors.toList()));
+
+        List<ZonedDateTime> runTimes = trigger.nextRunTimes(scheduledAt).limit(100).collect(Collectors.toList());
+        ZonedDateTime time = null;
+        for (int i = 0; i < runTimes.size(); i++) {
+            time = trigger.getNextRunTime(i == 0 ? null : new LastExecutionImpl(i, time), scheduledAt);
+            assertEquals(time, runTimes.get(i));
+        }
+
+        PayrollTrigger payroll = new PayrollTrigger();
+        scheduledAt = ZonedDateTime.of(2022, 4, 1, 12, 0, 0, 0, payroll.getZoneId());
+        assertEquals(List.of(ZonedDateTime.of(2022, 4, 15, 10, 0, 0, 0, payroll.getZoneId()),
+                             ZonedDateTime.of(2022, 4, 29, 10, 0, 0, 0, payroll.getZoneId()), // Friday
+                             ZonedDateTime.of(2022, 5, 13, 10, 0, 0, 0, payroll.getZoneId()), // Friday
+                             ZonedDateTime.of(2022, 5, 31, 10, 0, 0, 0, payroll.getZoneId())),
+                     payroll.nextRunTimes(scheduledAt).limit(4).collect(Collectors.toList()));
+    }
+
+    /**
+     * Obtain shared instances for the same cron expression and timezone, which cannot be modified.
+     */
+    @Test
+    public void testOf() {
+        ZoneId Athens = ZoneId.of("Europe/Athens");
+        ZoneId Cairo = ZoneId.of("Africa/Cairo");
+
+        CronTrigger trigger = CronTrigger.of("*/5 * * * *", Athens);
+        assertSame(trigger, CronTrigger.of("*/5 * * * *", Athens));
+        assertNotSame(trigger, CronTrigger.of("*/5 * * * *", Cairo));
+        assertNotSame(trigger, CronTrigger.of("*/10 * * * *", Athens));
+        assertEquals(Athens, trigger.getZoneId());
+
+        ZonedDateTime scheduledAt = ZonedDateTime.of(
+                2022, 3, 9, // Wednesday, Mar 9, 2022
+                11, 2, 30, 0, // 11:02:30 AM
+                trigger.getZoneId());
+
+        ZonedDateTime time;
+        time = trigger.getNextRunTime(null, scheduledAt);
+        assertEquals(ZonedDateTime.of(2022, 3, 9, 11, 5, 0, 0, Athens), time);
+
+        time = trigger.getNextRunTime(new LastExecutionImpl(1, time), scheduledAt);
+        assertEquals(ZonedDateTime.of(2022, 3, 9, 11, 10, 0, 0, Athens), time);
+
+    }
+
+    /**
+     * A CronTrigger that is obtained via CronTrigger.of cannot be modified.
+     */
+    @Test (expected = UnsupportedOperationException.class)
+    public void testOfUnmodifiable() {
+        CronTrigger.of("0 0 * * *", ZoneId.of("Europe/Athens")).hours(9);
+    }
+
     /**
      * Specify seconds as a cron expression.
      */
@@ -1012,6 +1151,14 @@ public class CronTriggerTest {
 
         time = trigger.getNextRunTime(new LastExecutionImpl(1, time), scheduledAt);
         assertEquals(ZonedDateTime.of(2021, 4, 25, 10, 45, 0, 0, time.getZone()), time);
+
+        // ordinal days of week can also be numbered
+        trigger = new CronTrigger("0 12 * * 0#L,3#2", scheduledAt.getZone());
+        time = trigger.getNextRunTime(null, scheduledAt);
+        assertEquals(ZonedDateTime.of(2021, 4, 25, 12, 0, 0, 0, time.getZone()), time);
+
+        time = trigger.getNextRunTime(new LastExecutionImpl(1, time), scheduledAt);
+        assertEquals(ZonedDateTime.of(2021, 5, 12, 12, 0, 0, 0, time.getZone()), time);
     }
 
     /**
@@ -1072,6 +1219,43 @@ public class CronTriggerTest {
         assertEquals(ZonedDateTime.of(2021, 11, 7, 2, 59, 0, 0, Newfoundland), time);
     }
 
+    /**
+     * Use the same trigger for times that are years apart, in both directions,
+     * including the Daylight Saving Time transitions of each year.
+     */
+    @Test
+    public void testZoneWithDaylightSavingTimeYearsApart() {
+        ZoneId NewYork = ZoneId.of("America/New_York");
+
+        CronTrigger trigger = new CronTrigger("0 30 1,2 * MAR,NOV SUN#1,SUN#2", NewYork);
+
+        for (int[] days : new int[][] { { 2021, 7, 14, 7 }, { 2035, 4, 11, 4 }, { 2021, 7, 14, 7 } }) {
+            int year = days[0];
+            ZonedDateTime scheduledAt = ZonedDateTime.of(year, 3, 1, 0, 0, 0, 0, NewYork);
+
+            ZonedDateTime time;
+            time = trigger.getNextRunTime(null, scheduledAt);
+            assertEquals(ZonedDateTime.of(year, 3, days[1], 1, 30, 0, 0, NewYork), time);
+
+            time = trigger.getNextRunTime(new LastExecutionImpl(1, time), scheduledAt);
+            assertEquals(ZonedDateTime.of(year, 3, days[1], 2, 30, 0, 0, NewYork), time);
+
+            time = trigger.getNextRunTime(new LastExecutionImpl(2, time), scheduledAt);
+            assertEquals(ZonedDateTime.of(year, 3, days[2], 1, 30, 0, 0, NewYork), time);
+
+            time = trigger.getNextRunTime(new LastExecutionImpl(3, time), scheduledAt); // no 2:30 AM, DST begins
+            assertEquals(ZonedDateTime.of(year, 11, days[3], 1, 30, 0, 0, NewYork), time);
+            assertEquals(-4 * 3600, time.getOffset().getTotalSeconds());
+
+            time = trigger.getNextRunTime(new LastExecutionImpl(4, time), scheduledAt); // DST --> Standard
+            assertEquals(ZonedDateTime.of(year, 11, days[3], 1, 30, 0, 0, NewYork).plusHours(1), time);
+            assertEquals(-5 * 3600, time.getOffset().getTotalSeconds());
+
+            time = trigger.getNextRunTime(new LastExecutionImpl(5, time), scheduledAt);
+            assertEquals(ZonedDateTime.of(year, 11, days[3], 2, 30, 0, 0, NewYork), time);
+        }
+    }
+
     /**
      * Specify a ZoneId that doesn't use Daylight Saving Time.
      */
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.enterprise.concurrent;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Minimal ManagedExecutorService that delegates to an ExecutorService,
+ * for testing the default methods of ManagedExecutorService.
+ * It counts how many times a task is submitted to the delegate.
+ */
+public class DelegatingManagedExecutor extends AbstractExecutorService implements ManagedExecutorService {
+    final ContextService contextService = new ThreadPriorityContextService();
+    final ExecutorService delegate;
+    final AtomicInteger executed = new AtomicInteger();
+
+    DelegatingManagedExecutor(ExecutorService delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+
+    @Override
+    public <U> CompletableFuture<U> completedFuture(U value) {
+        return CompletableFuture.completedFuture(value);
+    }
+
+    @Override
+    public <U> CompletionStage<U> completedStage(U value) {
+        return CompletableFuture.completedStage(value);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> copy(CompletableFuture<T> stage) {
+        return stage.copy();
+    }
+
+    @Override
+    public <T> CompletionStage<T> copy(CompletionStage<T> stage) {
+        return stage.toCompletableFuture().copy();
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        delegate.execute(command);
+        executed.incrementAndGet();
+    }
+
+    @Override
+    public <U> CompletableFuture<U> failedFuture(Throwable ex) {
+        return CompletableFuture.failedFuture(ex);
+    }
+
+    @Override
+    public <U> CompletionStage<U> failedStage(Throwable ex) {
+        return CompletableFuture.failedStage(ex);
+    }
+
+    @Override
+    public ContextService getContextService() {
+        return contextService;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public <U> CompletableFuture<U> newIncompleteFuture() {
+        return new CompletableFuture<U>();
+    }
+
+    @Override
+    public <T> T parallel(Supplier<T> action) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <T> T parallel(int maxParallelism, Supplier<T> action) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public CompletableFuture<Void> runAsync(Runnable runnable) {
+        return CompletableFuture.runAsync(runnable, this);
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public <U> CompletableFuture<U> supplyAsync(Supplier<U> supplier) {
+        return CompletableFuture.supplyAsync(supplier, this);
+    }
+}
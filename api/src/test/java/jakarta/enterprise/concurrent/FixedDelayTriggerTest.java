@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.enterprise.concurrent;
+
+import static org.junit.Assert.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+
+import org.junit.Test;
+
+import jakarta.enterprise.concurrent.FixedRateTriggerTest.LastExecutionImpl;
+
+public class FixedDelayTriggerTest {
+    static final ZoneId TOKYO = ZoneId.of("Asia/Tokyo");
+
+    /**
+     * The first execution runs after the initial delay, and subsequent executions
+     * run after the delay elapses from the end of the prior execution.
+     */
+    @Test
+    public void testDelayFromEndOfExecution() {
+        FixedDelayTrigger trigger = new FixedDelayTrigger(Duration.ZERO, Duration.ofSeconds(30), TOKYO);
+        ZonedDateTime scheduledAt = ZonedDateTime.of(2022, 7, 1, 12, 0, 0, 0, TOKYO);
+        assertEquals(scheduledAt, trigger.getNextRunTime(null, scheduledAt));
+
+        LastExecution lastExec = new LastExecutionImpl(scheduledAt, scheduledAt, scheduledAt.plusMinutes(4));
+        assertEquals(scheduledAt.plusMinutes(4).plusSeconds(30), trigger.getNextRunTime(lastExec, scheduledAt));
+
+        // a skipped execution has no end, so the delay is relative to the time it was scheduled for
+        lastExec = new LastExecutionImpl(scheduledAt, null, null);
+        assertEquals(scheduledAt.plusSeconds(30), trigger.getNextRunTime(lastExec, scheduledAt));
+
+        trigger = new FixedDelayTrigger(Duration.ofHours(1), null);
+        assertEquals(scheduledAt.plusHours(1).toInstant(), trigger.getNextRunTime(null, scheduledAt).toInstant());
+        assertEquals(ZoneId.systemDefault(), trigger.getZoneId());
+    }
+
+    /**
+     * The Instant and Date methods compute the same run times as the ZonedDateTime method.
+     */
+    @Test
+    public void testInstantAndDate() {
+        FixedDelayTrigger trigger = new FixedDelayTrigger(Duration.ofMillis(1500), TOKYO);
+        ZonedDateTime scheduledAt = ZonedDateTime.of(2022, 7, 1, 12, 0, 0, 0, TOKYO);
+        ZonedDateTime time = trigger.getNextRunTime(null, scheduledAt);
+        assertEquals(time.toInstant(), trigger.getNextRunTime(null, scheduledAt.toInstant()));
+        for (int i = 0; i < 10; i++) {
+            LastExecution lastExec = new LastExecutionImpl(time, time, time.plusNanos(i * 333000000L));
+            time = trigger.getNextRunTime(lastExec, scheduledAt);
+            Instant instant = trigger.getNextRunTime(lastExec, scheduledAt.toInstant());
+            assertEquals(time.toInstant(), instant);
+            assertEquals(Date.from(instant), trigger.getNextRunTime(lastExec, Date.from(scheduledAt.toInstant())));
+            assertFalse(trigger.skipRun(lastExec, instant));
+        }
+    }
+
+    /**
+     * Negative delay is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testDelayNegative() {
+        new FixedDelayTrigger(Duration.ofSeconds(-1), TOKYO);
+    }
+}
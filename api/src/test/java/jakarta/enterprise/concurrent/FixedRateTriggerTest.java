@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.enterprise.concurrent;
+
+import static org.junit.Assert.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+
+import org.junit.Test;
+
+public class FixedRateTriggerTest {
+    static final ZoneId CHICAGO = ZoneId.of("America/Chicago");
+
+    // LastExecution is used for invoking trigger.getNextRunTime and trigger.skipRun
+    static class LastExecutionImpl implements LastExecution {
+        final ZonedDateTime scheduledStart, startedAt, endedAt;
+
+        LastExecutionImpl(ZonedDateTime scheduledStart, ZonedDateTime startedAt, ZonedDateTime endedAt) {
+            this.scheduledStart = scheduledStart;
+            this.startedAt = startedAt;
+            this.endedAt = endedAt;
+        }
+
+        @Override
+        public String getIdentityName() {
+            return "MyTask";
+        }
+
+        @Override
+        public Object getResult() {
+            return endedAt == null ? null : "MyResult";
+        }
+
+        @Override
+        public ZonedDateTime getScheduledStart(ZoneId zone) {
+            return scheduledStart.withZoneSameInstant(zone);
+        }
+
+        @Override
+        public ZonedDateTime getRunStart(ZoneId zone) {
+            return startedAt == null ? null : startedAt.withZoneSameInstant(zone);
+        }
+
+        @Override
+        public ZonedDateTime getRunEnd(ZoneId zone) {
+            return endedAt == null ? null : endedAt.withZoneSameInstant(zone);
+        }
+    }
+
+    /**
+     * An execution that ends within its period is followed by the next run time on the grid
+     * for every catch-up policy.
+     */
+    @Test
+    public void testCatchUpNotNeeded() {
+        ZonedDateTime scheduledAt = ZonedDateTime.of(2022, 5, 2, 9, 0, 0, 0, CHICAGO);
+        ZonedDateTime first = scheduledAt.plusMinutes(1);
+        for (FixedRateTrigger.CatchUp catchUp : FixedRateTrigger.CatchUp.values()) {
+            FixedRateTrigger trigger = new FixedRateTrigger(Duration.ofMinutes(1), Duration.ofMinutes(15),
+                    catchUp, CHICAGO);
+            assertEquals(first, trigger.getNextRunTime(null, scheduledAt));
+
+            LastExecution lastExec = new LastExecutionImpl(first, first.plusSeconds(2), first.plusMinutes(14));
+            assertEquals(first.plusMinutes(15), trigger.getNextRunTime(lastExec, scheduledAt));
+        }
+    }
+
+    /**
+     * An execution that ends after several run times have passed is followed by the
+     * run time that the catch-up policy selects.
+     */
+    @Test
+    public void testCatchUpPolicies() {
+        ZonedDateTime scheduledAt = ZonedDateTime.of(2022, 5, 2, 9, 0, 0, 0, CHICAGO);
+        Duration period = Duration.ofMinutes(10);
+        // scheduled for 9:10, ran from 9:10 to 9:47, missing 9:20, 9:30, and 9:40
+        ZonedDateTime first = scheduledAt.plus(period);
+        LastExecution lastExec = new LastExecutionImpl(first, first, scheduledAt.plusMinutes(47));
+
+        FixedRateTrigger trigger = new FixedRateTrigger(period, CHICAGO);
+        assertEquals(FixedRateTrigger.CatchUp.RUN_ALL, trigger.getCatchUp());
+        assertEquals(scheduledAt.plusMinutes(20), trigger.getNextRunTime(lastExec, scheduledAt));
+
+        trigger = new FixedRateTrigger(period, period, FixedRateTrigger.CatchUp.COALESCE, CHICAGO);
+        assertEquals(scheduledAt.plusMinutes(40), trigger.getNextRunTime(lastExec, scheduledAt));
+
+        trigger = new FixedRateTrigger(period, period, FixedRateTrigger.CatchUp.SKIP, CHICAGO);
+        assertEquals(scheduledAt.plusMinutes(50), trigger.getNextRunTime(lastExec, scheduledAt));
+
+        // ending exactly at a run time
+        lastExec = new LastExecutionImpl(first, first, scheduledAt.plusMinutes(40));
+        assertEquals(scheduledAt.plusMinutes(50), trigger.getNextRunTime(lastExec, scheduledAt));
+        trigger = new FixedRateTrigger(period, period, FixedRateTrigger.CatchUp.COALESCE, CHICAGO);
+        assertEquals(scheduledAt.plusMinutes(40), trigger.getNextRunTime(lastExec, scheduledAt));
+
+        // a skipped execution has no end, and is followed by the next run time
+        lastExec = new LastExecutionImpl(first, null, null);
+        assertEquals(scheduledAt.plusMinutes(20), trigger.getNextRunTime(lastExec, scheduledAt));
+    }
+
+    /**
+     * A catch-up over a very large number of missed run times is computed directly.
+     */
+    @Test
+    public void testCatchUpManyMissed() {
+        ZonedDateTime scheduledAt = ZonedDateTime.of(2022, 5, 2, 9, 0, 0, 0, CHICAGO);
+        FixedRateTrigger trigger = new FixedRateTrigger(Duration.ZERO, Duration.ofMillis(1),
+                FixedRateTrigger.CatchUp.SKIP, CHICAGO);
+        LastExecution lastExec = new LastExecutionImpl(scheduledAt, scheduledAt, scheduledAt.plusYears(10));
+        assertEquals(scheduledAt.plusYears(10).plusNanos(1000000), trigger.getNextRunTime(lastExec, scheduledAt));
+    }
+
+    /**
+     * The Instant and Date methods compute the same run times as the ZonedDateTime method.
+     */
+    @Test
+    public void testInstantAndDate() {
+        FixedRateTrigger trigger = new FixedRateTrigger(Duration.ofSeconds(5), Duration.ofSeconds(30),
+                FixedRateTrigger.CatchUp.COALESCE, CHICAGO);
+        ZonedDateTime scheduledAt = ZonedDateTime.of(2022, 11, 6, 1, 59, 50, 0, CHICAGO);
+        ZonedDateTime time = trigger.getNextRunTime(null, scheduledAt);
+        assertEquals(time.toInstant(), trigger.getNextRunTime(null, scheduledAt.toInstant()));
+        for (int i = 0; i < 10; i++) {
+            LastExecution lastExec = new LastExecutionImpl(time, time, time.plusSeconds(i * 11));
+            time = trigger.getNextRunTime(lastExec, scheduledAt);
+            Instant instant = trigger.getNextRunTime(lastExec, scheduledAt.toInstant());
+            assertEquals(time.toInstant(), instant);
+            assertEquals(Date.from(instant), trigger.getNextRunTime(lastExec, Date.from(scheduledAt.toInstant())));
+            assertFalse(trigger.skipRun(lastExec, instant));
+        }
+        assertEquals(CHICAGO, time.getZone());
+    }
+
+    /**
+     * A period of zero is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testPeriodZero() {
+        new FixedRateTrigger(Duration.ZERO, CHICAGO);
+    }
+
+    /**
+     * Negative initial delay is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInitialDelayNegative() {
+        new FixedRateTrigger(Duration.ofSeconds(-1), Duration.ofSeconds(1), FixedRateTrigger.CatchUp.SKIP, CHICAGO);
+    }
+}
@@ -54,6 +54,10 @@ public class ManagedExecutorDefinitionTest {
         assertNotNull(def);
         assertEquals(-1, def.hungTaskThreshold());
         assertEquals(-1, def.maxAsync());
+        assertEquals(-1, def.maxQueued());
+        assertEquals(RejectionPolicy.ABORT, def.rejectionPolicy());
+        assertEquals(60000, def.queueTimeout());
+        assertFalse(def.virtual());
         assertEquals("java:comp/DefaultContextService", def.context());
     }
 
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.enterprise.concurrent;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+
+/**
+ * Tests of the default methods of ManagedExecutorService.
+ */
+public class ManagedExecutorServiceTest {
+
+    @Test
+    public void testSubmitAll() throws Exception {
+        ExecutorService delegate = Executors.newFixedThreadPool(2);
+        try {
+            DelegatingManagedExecutor executor = new DelegatingManagedExecutor(delegate);
+            List<Callable<Integer>> tasks = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                int n = i;
+                tasks.add(() -> n * n);
+            }
+
+            List<Future<Integer>> futures = executor.submitAll(tasks);
+            assertEquals(5, futures.size());
+            for (int i = 0; i < 5; i++) {
+                assertEquals(Integer.valueOf(i * i), futures.get(i).get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(5, executor.executed.get());
+        } finally {
+            delegate.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testSubmitAllRejected() throws Exception {
+        CountDownLatch blocker = new CountDownLatch(1);
+        ExecutorService delegate = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>(1));
+        try {
+            DelegatingManagedExecutor executor = new DelegatingManagedExecutor(delegate);
+            List<Callable<Boolean>> tasks = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                tasks.add(() -> blocker.await(5, TimeUnit.SECONDS));
+            }
+
+            try {
+                executor.submitAll(tasks);
+                fail("The third task must be rejected.");
+            } catch (RejectedExecutionException x) {
+                // pass
+            }
+            assertEquals(2, executor.executed.get());
+            blocker.countDown();
+        } finally {
+            delegate.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testSupplyAllAsync() throws Exception {
+        ExecutorService delegate = Executors.newFixedThreadPool(2);
+        try {
+            DelegatingManagedExecutor executor = new DelegatingManagedExecutor(delegate);
+            List<Supplier<String>> suppliers = List.of(() -> "a", () -> "b", () -> "c");
+
+            List<CompletableFuture<String>> futures = executor.supplyAllAsync(suppliers);
+            assertEquals(3, futures.size());
+            assertEquals("a", futures.get(0).get(5, TimeUnit.SECONDS));
+            assertEquals("b", futures.get(1).get(5, TimeUnit.SECONDS));
+            assertEquals("c", futures.get(2).get(5, TimeUnit.SECONDS));
+        } finally {
+            delegate.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testTasksSubmitted() throws Exception {
+        List<Object> submitted = new ArrayList<>();
+        ManagedTaskListener listener = new ManagedExecutorsTest.ManagedTaskListenerImpl() {
+            @Override
+            public void taskSubmitted(Future<?> future, ManagedExecutorService executor, Object task) {
+                submitted.add(future);
+                submitted.add(task);
+            }
+        };
+        Future<?> f1 = CompletableFuture.completedFuture(1);
+        Future<?> f2 = CompletableFuture.completedFuture(2);
+
+        listener.tasksSubmitted(List.of(f1, f2), null, List.of("task1", "task2"));
+        assertEquals(List.of(f1, "task1", f2, "task2"), submitted);
+    }
+}
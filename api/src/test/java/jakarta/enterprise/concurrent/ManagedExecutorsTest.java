@@ -198,6 +198,122 @@ public class ManagedExecutorsTest {
         assertEquals("true", managedTask.getExecutionProperties().get("custom"));
     }
 
+    /**
+     * Execution properties that are supplied to ManagedExecutors.managedTask are a read-only
+     * snapshot, which is layered over the execution properties of a task that implements ManagedTask.
+     */
+    @Test
+    public void testManagedTask_executionProperties_layered() {
+        Map<String, String> EXEC_PROPERTIES = new HashMap<String, String>();
+        EXEC_PROPERTIES.put("custom", "true");
+        EXEC_PROPERTIES.put(ManagedTask.LONGRUNNING_HINT, "false");
+        ManagedTaskRunnableImpl task = new ManagedTaskRunnableImpl("task1 description", EXEC_PROPERTIES, null);
+
+        Map<String, String> executionProperties = new HashMap<String, String>();
+        executionProperties.put(ManagedTask.IDENTITY_NAME, "task1");
+        executionProperties.put(ManagedTask.LONGRUNNING_HINT, "true");
+
+        Map<String, String> props = ((ManagedTask) ManagedExecutors.managedTask(task, executionProperties, null))
+                .getExecutionProperties();
+        executionProperties.put(ManagedTask.TRANSACTION, ManagedTask.USE_TRANSACTION_OF_EXECUTION_THREAD);
+
+        Map<String, String> expected = new HashMap<String, String>();
+        expected.put("custom", "true");
+        expected.put(ManagedTask.IDENTITY_NAME, "task1");
+        expected.put(ManagedTask.LONGRUNNING_HINT, "true");
+        assertEquals(expected, props);
+        assertEquals(expected, new HashMap<String, String>(props));
+        assertEquals(expected.hashCode(), props.hashCode());
+        assertEquals(3, props.size());
+        assertFalse(props.containsKey(ManagedTask.TRANSACTION));
+        try {
+            props.put(ManagedTask.TRANSACTION, ManagedTask.SUSPEND);
+            fail("Execution properties must be read-only.");
+        } catch (UnsupportedOperationException x) {
+            // expected
+        }
+
+        // execution properties of the task are a read-only snapshot when none are supplied
+        props = ((ManagedTask) ManagedExecutors.managedTask(task, null)).getExecutionProperties();
+        EXEC_PROPERTIES.put("custom", "false");
+        assertEquals("true", props.get("custom"));
+        assertEquals(2, props.size());
+        try {
+            props.remove("custom");
+            fail("Execution properties must be read-only.");
+        } catch (UnsupportedOperationException x) {
+            // expected
+        }
+
+        // more execution properties than fit in the compact form
+        for (int i = 0; i < 5; i++) {
+            executionProperties.put("p" + i, Integer.toString(i));
+        }
+        props = ((ManagedTask) ManagedExecutors.managedTask(new RunnableImpl(), executionProperties, null))
+                .getExecutionProperties();
+        assertEquals(executionProperties, props);
+        assertNull(((ManagedTask) ManagedExecutors.managedTask(new RunnableImpl(), null)).getExecutionProperties());
+    }
+
+    /**
+     * Test for ManagedExecutors.managedTaskTemplate, where tasks that are obtained from the
+     * template share its listener and execution properties.
+     */
+    @Test
+    public void testManagedTaskTemplate() throws Exception {
+        ManagedTaskListenerImpl taskListener = new ManagedTaskListenerImpl();
+        Map<String, String> executionProperties = new HashMap<String, String>();
+        executionProperties.put(ManagedTask.IDENTITY_NAME, "task1");
+        executionProperties.put(ManagedTask.LONGRUNNING_HINT, "true");
+
+        ManagedExecutors.ManagedTaskTemplate template =
+                ManagedExecutors.managedTaskTemplate(executionProperties, taskListener);
+        executionProperties.put(ManagedTask.LONGRUNNING_HINT, "false");
+
+        RunnableImpl task1 = new RunnableImpl();
+        Runnable wrapped1 = template.managedTask(task1);
+        Runnable wrapped2 = template.managedTask(new RunnableImpl());
+        Callable<String> wrapped3 = template.managedTask(new CallableImpl<String>("result"));
+        assertSame(taskListener, ((ManagedTask) wrapped1).getManagedTaskListener());
+        assertSame(taskListener, ((ManagedTask) wrapped3).getManagedTaskListener());
+        assertSame(template.getExecutionProperties(), ((ManagedTask) wrapped1).getExecutionProperties());
+        assertSame(template.getExecutionProperties(), ((ManagedTask) wrapped2).getExecutionProperties());
+        assertSame(template.getExecutionProperties(), ((ManagedTask) wrapped3).getExecutionProperties());
+        assertEquals("true", template.getExecutionProperties().get(ManagedTask.LONGRUNNING_HINT));
+        assertEquals("task1", template.getExecutionProperties().get(ManagedTask.IDENTITY_NAME));
+
+        wrapped1.run();
+        assertTrue(task1.ran);
+        assertEquals("result", wrapped3.call());
+
+        // task that implements ManagedTask
+        ManagedTaskListenerImpl TASK_LISTENER = new ManagedTaskListenerImpl();
+        Map<String, String> EXEC_PROPERTIES = new HashMap<String, String>();
+        EXEC_PROPERTIES.put("custom", "true");
+        EXEC_PROPERTIES.put(ManagedTask.LONGRUNNING_HINT, "false");
+        ManagedTask managedTask = (ManagedTask) template.managedTask(
+                new ManagedTaskCallableImpl<String>("result", "task2 description", EXEC_PROPERTIES, TASK_LISTENER));
+        assertSame(taskListener, managedTask.getManagedTaskListener());
+        assertEquals("true", managedTask.getExecutionProperties().get(ManagedTask.LONGRUNNING_HINT));
+        assertEquals("task1", managedTask.getExecutionProperties().get(ManagedTask.IDENTITY_NAME));
+        assertEquals("true", managedTask.getExecutionProperties().get("custom"));
+
+        // template without listener or execution properties
+        template = ManagedExecutors.managedTaskTemplate(null, null);
+        managedTask = (ManagedTask) template.managedTask(
+                new ManagedTaskRunnableImpl("task3 description", EXEC_PROPERTIES, TASK_LISTENER));
+        assertSame(TASK_LISTENER, managedTask.getManagedTaskListener());
+        assertEquals(EXEC_PROPERTIES, managedTask.getExecutionProperties());
+        EXEC_PROPERTIES.put("custom", "false");
+        assertEquals("true", managedTask.getExecutionProperties().get("custom"));
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testManagedTaskTemplate_null_Runnable_task() {
+        Runnable task = null;
+        ManagedExecutors.managedTaskTemplate(null, new ManagedTaskListenerImpl()).managedTask(task);
+    }
+
     @Test (expected = IllegalArgumentException.class)
     public void testManagedTask_null_Runnable_task() {
         Runnable task = null;
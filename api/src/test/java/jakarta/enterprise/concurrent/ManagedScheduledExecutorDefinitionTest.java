@@ -55,6 +55,10 @@ public class ManagedScheduledExecutorDefinitionTest {
         assertNotNull(def);
         assertEquals(-1, def.hungTaskThreshold());
         assertEquals(-1, def.maxAsync());
+        assertEquals(-1, def.maxQueued());
+        assertEquals(RejectionPolicy.ABORT, def.rejectionPolicy());
+        assertEquals(60000, def.queueTimeout());
+        assertFalse(def.virtual());
         assertEquals("java:comp/DefaultContextService", def.context());
     }
 
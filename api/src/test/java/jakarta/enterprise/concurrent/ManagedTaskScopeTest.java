@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.enterprise.concurrent;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests of ManagedTaskScope.
+ */
+public class ManagedTaskScopeTest {
+    private final ExecutorService delegate = Executors.newFixedThreadPool(8);
+    private final DelegatingManagedExecutor executor = new DelegatingManagedExecutor(delegate);
+
+    @After
+    public void tearDown() {
+        delegate.shutdownNow();
+    }
+
+    @Test
+    public void testBoundedConcurrency() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+
+        try (ManagedTaskScope scope = executor.scope(2)) {
+            for (int i = 0; i < 10; i++) {
+                int n = i;
+                results.add(scope.fork(() -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    TimeUnit.MILLISECONDS.sleep(20);
+                    running.decrementAndGet();
+                    return n;
+                }));
+            }
+            scope.join(30, TimeUnit.SECONDS);
+        }
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(Integer.valueOf(i), results.get(i).getNow(null));
+        }
+        assertTrue(maxRunning.get() <= 2);
+        assertEquals(10, executor.executed.get());
+    }
+
+    @Test
+    public void testCancelOnFailure() throws Exception {
+        CountDownLatch blocker = new CountDownLatch(1);
+        CompletableFuture<Boolean> blocked;
+        CompletableFuture<Boolean> queued;
+
+        try (ManagedTaskScope scope = executor.scope(2)) {
+            blocked = scope.fork(() -> blocker.await(30, TimeUnit.SECONDS));
+            scope.fork(() -> {
+                throw new IllegalStateException("intentional failure");
+            });
+            queued = scope.fork(() -> true);
+            try {
+                scope.join();
+                fail("Subtask failure must be raised.");
+            } catch (ExecutionException x) {
+                assertTrue(x.getCause() instanceof IllegalStateException);
+            }
+
+            assertTrue(blocked.isCancelled());
+            assertTrue(scope.fork(() -> true).isCancelled());
+        } finally {
+            blocker.countDown();
+        }
+        assertTrue(queued.isCancelled() || queued.getNow(false));
+    }
+
+    @Test
+    public void testTimeout() throws Exception {
+        CountDownLatch blocker = new CountDownLatch(1);
+        try (ManagedTaskScope scope = executor.scope(1)) {
+            CompletableFuture<Boolean> running = scope.fork(() -> blocker.await(30, TimeUnit.SECONDS));
+            CompletableFuture<Boolean> queued = scope.fork(() -> true);
+            try {
+                scope.join(100, TimeUnit.MILLISECONDS);
+                fail("Subtasks must not complete within the timeout.");
+            } catch (TimeoutException x) {
+                // pass
+            }
+            assertTrue(running.isCancelled());
+            assertTrue(queued.isCancelled());
+        } finally {
+            blocker.countDown();
+        }
+    }
+
+    @Test
+    public void testClose() throws Exception {
+        CountDownLatch blocker = new CountDownLatch(1);
+        ManagedTaskScope scope = executor.scope(1);
+        CompletableFuture<Boolean> running = scope.fork(() -> blocker.await(30, TimeUnit.SECONDS));
+        scope.close();
+        assertTrue(running.isCancelled());
+        blocker.countDown();
+        try {
+            scope.fork(() -> true);
+            fail("Closed scope must not accept subtasks.");
+        } catch (IllegalStateException x) {
+            // pass
+        }
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testInvalidMaxConcurrency() {
+        executor.scope(0);
+    }
+}
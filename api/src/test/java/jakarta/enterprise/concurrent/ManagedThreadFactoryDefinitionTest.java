@@ -53,6 +53,7 @@ public class ManagedThreadFactoryDefinitionTest {
                 def = anno;
         assertNotNull(def);
         assertEquals(Thread.NORM_PRIORITY, def.priority());
+        assertFalse(def.virtual());
         assertEquals("java:comp/DefaultContextService", def.context());
     }
 
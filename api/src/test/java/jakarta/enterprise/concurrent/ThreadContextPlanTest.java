@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.enterprise.concurrent;
+
+import static org.junit.Assert.*;
+
+import jakarta.enterprise.concurrent.spi.ThreadContextObserver;
+import jakarta.enterprise.concurrent.spi.ThreadContextPlan;
+import jakarta.enterprise.concurrent.spi.ThreadContextProvider;
+import jakarta.enterprise.concurrent.spi.ThreadContextRestorer;
+import jakarta.enterprise.concurrent.spi.ThreadContextSnapshot;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Tests of resolving and using a ThreadContextPlan.
+ */
+@ContextServiceDefinition(
+        name = "java:module/concurrent/PlanContext",
+        propagated = "ThreadPriority",
+        cleared = ContextServiceDefinition.TRANSACTION,
+        unchanged = ContextServiceDefinition.ALL_REMAINING)
+public class ThreadContextPlanTest {
+
+    /**
+     * Provider of a context type other than thread priority, which counts requests for cleared context.
+     */
+    static class CountingProvider extends ThreadPriorityContextProvider {
+        final boolean cacheable;
+        final AtomicInteger clearedCount = new AtomicInteger();
+        final String type;
+
+        CountingProvider(String type, boolean cacheable) {
+            this.type = type;
+            this.cacheable = cacheable;
+        }
+
+        @Override
+        public ThreadContextSnapshot clearedContext(Map<String, String> props) {
+            clearedCount.incrementAndGet();
+            return super.clearedContext(props);
+        }
+
+        @Override
+        public String getThreadContextType() {
+            return type;
+        }
+
+        @Override
+        public boolean isClearedContextCacheable() {
+            return cacheable;
+        }
+    }
+
+    @Test
+    public void testPlanFromDefinition() throws Exception {
+        ContextServiceDefinition definition = ThreadContextPlanTest.class.getAnnotation(ContextServiceDefinition.class);
+        ThreadContextProvider priority = new ThreadPriorityContextProvider();
+        ThreadContextProvider other = new CountingProvider("Other", false);
+
+        ThreadContextPlan plan = ThreadContextPlan.of(definition, List.of(other, priority));
+        assertEquals(List.of(priority), plan.getPropagated());
+        assertEquals(List.of(), plan.getCleared());
+        assertEquals(List.of(other), plan.getUnchanged());
+
+        Thread.currentThread().setPriority(2);
+        ThreadContextSnapshot snapshot = plan.capture(null);
+        Thread.currentThread().setPriority(3);
+
+        ThreadContextRestorer restorer = snapshot.begin();
+        assertEquals(2, Thread.currentThread().getPriority());
+        restorer.endContext();
+        assertEquals(3, Thread.currentThread().getPriority());
+    }
+
+    @Test
+    public void testRemainingClearedByDefault() throws Exception {
+        CountingProvider a = new CountingProvider("A", true);
+        CountingProvider b = new CountingProvider("B", false);
+
+        ThreadContextPlan plan = ThreadContextPlan.of(new String[] { "A" }, new String[0], new String[0],
+                List.of(a, b));
+        assertEquals(List.of(a), plan.getPropagated());
+        assertEquals(List.of(b), plan.getCleared());
+        assertEquals(List.of(), plan.getUnchanged());
+
+        plan = ThreadContextPlan.of(new String[0], new String[] { ContextServiceDefinition.ALL_REMAINING },
+                new String[0], List.of(a, b));
+        assertEquals(List.of(), plan.getPropagated());
+        assertEquals(List.of(a, b), plan.getCleared());
+        assertEquals(1, a.clearedCount.get()); // cached when the plan is resolved
+
+        plan.capture(null);
+        plan.capture(Collections.emptyMap());
+        assertEquals(1, a.clearedCount.get());
+        assertEquals(2, b.clearedCount.get());
+
+        plan.capture(Map.of(ManagedTask.IDENTITY_NAME, "task1"));
+        assertEquals(2, a.clearedCount.get());
+        assertEquals(3, b.clearedCount.get());
+    }
+
+    /**
+     * Cacheable cleared context is cached per set of execution properties, up to a limit.
+     */
+    @Test
+    public void testClearedContextCachedPerProperties() throws Exception {
+        CountingProvider a = new CountingProvider("A", true);
+        ThreadContextPlan plan = ThreadContextPlan.of(new String[0], new String[] { "A" }, new String[0],
+                List.of(a));
+        assertEquals(1, a.clearedCount.get());
+
+        Map<String, String> props = new HashMap<String, String>();
+        props.put(ManagedTask.TRANSACTION, ManagedTask.SUSPEND);
+        plan.capture(props);
+        plan.capture(Map.of(ManagedTask.TRANSACTION, ManagedTask.SUSPEND));
+        assertEquals(2, a.clearedCount.get());
+
+        // later changes to the supplied map do not alter the cache key
+        props.put(ManagedTask.TRANSACTION, ManagedTask.USE_TRANSACTION_OF_EXECUTION_THREAD);
+        plan.capture(props);
+        plan.capture(Map.of(ManagedTask.TRANSACTION, ManagedTask.SUSPEND));
+        assertEquals(3, a.clearedCount.get());
+
+        // execution properties that vary per task fill the cache, after which they are not cached
+        for (int i = 0; i < 40; i++) {
+            plan.capture(Map.of(ManagedTask.IDENTITY_NAME, "task" + i));
+        }
+        assertEquals(43, a.clearedCount.get());
+        plan.capture(Map.of(ManagedTask.IDENTITY_NAME, "task0"));
+        plan.capture(Map.of(ManagedTask.IDENTITY_NAME, "task39"));
+        assertEquals(44, a.clearedCount.get());
+    }
+
+    @Test
+    public void testCaptureDeferred() throws Exception {
+        AtomicInteger resolved = new AtomicInteger();
+        ThreadContextProvider deferring = new CountingProvider("Deferring", false) {
+            @Override
+            public ThreadContextSnapshot deferredContext(Map<String, String> props) {
+                int priority = Thread.currentThread().getPriority(); // token
+                return () -> {
+                    resolved.incrementAndGet();
+                    return new ThreadPrioritySnapshot(priority).begin();
+                };
+            }
+        };
+        ThreadContextProvider eager = new CountingProvider("Eager", false);
+
+        ThreadContextPlan plan = ThreadContextPlan.of(new String[] { ContextServiceDefinition.ALL_REMAINING },
+                new String[0], new String[0], List.of(deferring, eager));
+
+        Thread.currentThread().setPriority(4);
+        ThreadContextSnapshot snapshot = plan.captureDeferred(null);
+        assertEquals(0, resolved.get());
+        Thread.currentThread().setPriority(6);
+
+        ThreadContextRestorer restorer = snapshot.begin();
+        assertEquals(1, resolved.get());
+        // the eager provider applies the priority that it captured, which is also 4
+        assertEquals(4, Thread.currentThread().getPriority());
+        restorer.endContext();
+        assertEquals(6, Thread.currentThread().getPriority());
+
+        snapshot = plan.capture(null);
+        assertEquals(1, resolved.get());
+    }
+
+    @Test
+    public void testObserver() throws Exception {
+        List<String> observed = new ArrayList<>();
+        ThreadContextObserver observer = (type, operation, nanos) -> {
+            assertTrue(nanos >= 0);
+            observed.add(type + " " + operation);
+        };
+
+        ThreadContextPlan unobserved = ThreadContextPlan.of(new String[] { "ThreadPriority" }, new String[0],
+                new String[0], List.of(new ThreadPriorityContextProvider(), new CountingProvider("B", false)));
+        ThreadContextPlan plan = unobserved.withObserver(observer);
+        assertNull(unobserved.getObserver());
+        assertSame(observer, plan.getObserver());
+        assertEquals(unobserved.getPropagated(), plan.getPropagated());
+        assertNull(plan.withObserver(null).getObserver());
+
+        ThreadContextSnapshot snapshot = plan.capture(null);
+        assertEquals(List.of("ThreadPriority CURRENT_CONTEXT", "B CLEARED_CONTEXT"), observed);
+        observed.clear();
+
+        snapshot.begin().endContext();
+        assertEquals(List.of("ThreadPriority BEGIN", "B BEGIN", "B END_CONTEXT", "ThreadPriority END_CONTEXT"),
+                observed);
+        observed.clear();
+
+        unobserved.capture(null).begin().endContext();
+        assertEquals(List.of(), observed);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOverlappingContextTypes() {
+        ThreadContextPlan.of(new String[] { "ThreadPriority" }, new String[] { "ThreadPriority" }, new String[0],
+                List.of(new ThreadPriorityContextProvider()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDuplicateProviders() {
+        ThreadContextPlan.of(new String[] { "ThreadPriority" }, new String[0], new String[0],
+                List.of(new ThreadPriorityContextProvider(), new ThreadPriorityContextProvider()));
+    }
+}
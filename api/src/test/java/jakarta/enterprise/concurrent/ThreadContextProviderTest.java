@@ -89,6 +89,32 @@ public class ThreadContextProviderTest {
         assertEquals(8, Thread.currentThread().getPriority());
     }
 
+    /**
+     * Cleared context snapshots are not cacheable unless the provider indicates otherwise.
+     */
+    @Test
+    public void testClearedContextCacheable() throws Exception {
+        assertFalse(new ThreadPriorityContextProvider().isClearedContextCacheable());
+
+        ThreadContextProvider provider = new ThreadPriorityContextProvider() {
+            @Override
+            public boolean isClearedContextCacheable() {
+                return true;
+            }
+        };
+        assertTrue(provider.isClearedContextCacheable());
+
+        // the cached snapshot can be applied repeatedly
+        ThreadContextSnapshot snapshot = provider.clearedContext(Collections.emptyMap());
+        for (int priority = 2; priority < 5; priority++) {
+            Thread.currentThread().setPriority(priority);
+            ThreadContextRestorer restorer = snapshot.begin();
+            assertEquals(Thread.NORM_PRIORITY, Thread.currentThread().getPriority());
+            restorer.endContext();
+            assertEquals(priority, Thread.currentThread().getPriority());
+        }
+    }
+
     /**
      * Validate the example that is used in the specification ThreadContextProvider example.
      */
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.enterprise.concurrent;
+
+import jakarta.enterprise.concurrent.spi.ThreadContextRestorer;
+import jakarta.enterprise.concurrent.spi.ThreadContextSnapshot;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Minimal ContextService that propagates thread priority, for testing the default methods of ContextService.
+ * It counts how many times context is captured.
+ */
+public class ThreadPriorityContextService implements ContextService {
+    final AtomicInteger captures = new AtomicInteger();
+
+    private ThreadContextSnapshot capture() {
+        captures.incrementAndGet();
+        return new ThreadPriorityContextProvider().currentContext(null);
+    }
+
+    private static void run(ThreadContextSnapshot snapshot, Runnable action) {
+        ThreadContextRestorer restorer = snapshot.begin();
+        try {
+            action.run();
+        } finally {
+            restorer.endContext();
+        }
+    }
+
+    private static <R> R call(ThreadContextSnapshot snapshot, Supplier<R> action) {
+        ThreadContextRestorer restorer = snapshot.begin();
+        try {
+            return action.get();
+        } finally {
+            restorer.endContext();
+        }
+    }
+
+    @Override
+    public <R> Callable<R> contextualCallable(Callable<R> callable) {
+        ThreadContextSnapshot snapshot = capture();
+        return () -> {
+            ThreadContextRestorer restorer = snapshot.begin();
+            try {
+                return callable.call();
+            } finally {
+                restorer.endContext();
+            }
+        };
+    }
+
+    @Override
+    public <T, U> BiConsumer<T, U> contextualConsumer(BiConsumer<T, U> consumer) {
+        ThreadContextSnapshot snapshot = capture();
+        return (t, u) -> run(snapshot, () -> consumer.accept(t, u));
+    }
+
+    @Override
+    public <T> Consumer<T> contextualConsumer(Consumer<T> consumer) {
+        ThreadContextSnapshot snapshot = capture();
+        return t -> run(snapshot, () -> consumer.accept(t));
+    }
+
+    @Override
+    public <T, U, R> BiFunction<T, U, R> contextualFunction(BiFunction<T, U, R> function) {
+        ThreadContextSnapshot snapshot = capture();
+        return (t, u) -> call(snapshot, () -> function.apply(t, u));
+    }
+
+    @Override
+    public <T, R> Function<T, R> contextualFunction(Function<T, R> function) {
+        ThreadContextSnapshot snapshot = capture();
+        return t -> call(snapshot, () -> function.apply(t));
+    }
+
+    @Override
+    public Runnable contextualRunnable(Runnable runnable) {
+        ThreadContextSnapshot snapshot = capture();
+        return () -> run(snapshot, runnable);
+    }
+
+    @Override
+    public <R> Supplier<R> contextualSupplier(Supplier<R> supplier) {
+        ThreadContextSnapshot snapshot = capture();
+        return () -> call(snapshot, supplier);
+    }
+
+    @Override
+    public <T> T createContextualProxy(T instance, Class<T> intf) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Object createContextualProxy(Object instance, Class<?>... interfaces) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <T> T createContextualProxy(T instance, Map<String, String> executionProperties, Class<T> intf) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Object createContextualProxy(Object instance, Map<String, String> executionProperties,
+                                        Class<?>... interfaces) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Executor currentContextExecutor() {
+        ThreadContextSnapshot snapshot = capture();
+        return runnable -> run(snapshot, runnable);
+    }
+
+    @Override
+    public Map<String, String> getExecutionProperties(Object contextualProxy) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <T> CompletableFuture<T> withContextCapture(CompletableFuture<T> stage) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <T> CompletionStage<T> withContextCapture(CompletionStage<T> stage) {
+        throw new UnsupportedOperationException();
+    }
+}
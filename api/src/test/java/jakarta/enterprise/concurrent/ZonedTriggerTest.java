@@ -25,8 +25,10 @@ import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.List;
 import java.util.TimeZone;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import org.junit.Test;
 
@@ -237,6 +239,70 @@ public class ZonedTriggerTest {
         assertNotNull(lastExecWithNulls.getScheduledStart());
     }
 
+    /**
+     * Test the default implementations of the methods that accept Instant, which ought to
+     * delegate to the ZonedDateTime methods of ZonedTrigger and the Date methods of Trigger.
+     */
+    @Test
+    public void testInstantDefaultImplementation() {
+        ZonedTrigger trigger = new HourlyDuringBusinessHoursTrigger();
+        ZonedDateTime scheduledAt = ZonedDateTime.of(2022, 1, 14, 19, 30, 0, 0, trigger.getZoneId()); // Friday 7:30 PM
+        Instant next = trigger.getNextRunTime(null, scheduledAt.toInstant());
+        assertEquals(ZonedDateTime.of(2022, 1, 14, 20, 0, 0, 0, trigger.getZoneId()).toInstant(), next);
+        assertFalse(trigger.skipRun(null, next));
+
+        Trigger dateTrigger = new Trigger() {
+            @Override
+            public Date getNextRunTime(LastExecution lastExecutionInfo, Date taskScheduledTime) {
+                return new Date(taskScheduledTime.getTime() + TimeUnit.MINUTES.toMillis(5));
+            }
+
+            @Override
+            public boolean skipRun(LastExecution lastExecutionInfo, Date scheduledRunTime) {
+                return scheduledRunTime.getTime() % 2 == 1;
+            }
+        };
+        Instant now = Instant.ofEpochMilli(1650000000000L);
+        assertEquals(now.plusSeconds(300), dateTrigger.getNextRunTime(null, now));
+        assertFalse(dateTrigger.skipRun(null, now));
+        assertTrue(dateTrigger.skipRun(null, now.plusMillis(1)));
+    }
+
+    /**
+     * Test the default implementation of ZonedTrigger.nextRunTimes(ZonedDateTime),
+     * which ought to delegate to getNextRunTime(LastExecution, ZonedDateTime),
+     * and which ends when getNextRunTime returns null.
+     */
+    @Test
+    public void testNextRunTimesDefaultImplementation() {
+        ZonedTrigger trigger = new HourlyDuringBusinessHoursTrigger();
+        ZoneId zone = trigger.getZoneId();
+
+        List<ZonedDateTime> runTimes = trigger
+                .nextRunTimes(ZonedDateTime.of(2022, 1, 14, 19, 30, 0, 0, zone)) // Friday 7:30 PM
+                .limit(4)
+                .collect(Collectors.toList());
+
+        assertEquals(List.of(ZonedDateTime.of(2022, 1, 14, 20, 0, 0, 0, zone),
+                             ZonedDateTime.of(2022, 1, 17, 8, 0, 0, 0, zone), // Monday
+                             ZonedDateTime.of(2022, 1, 17, 9, 0, 0, 0, zone),
+                             ZonedDateTime.of(2022, 1, 17, 10, 0, 0, 0, zone)),
+                     runTimes);
+
+        ZonedTrigger twice = new ZonedTrigger() {
+            @Override
+            public ZonedDateTime getNextRunTime(LastExecution lastExec, ZonedDateTime taskScheduledTime) {
+                return lastExec == null ? taskScheduledTime.plusDays(1)
+                     : lastExec.getScheduledStart(getZoneId()).equals(taskScheduledTime.plusDays(1))
+                     ? taskScheduledTime.plusDays(2) : null;
+            }
+        };
+
+        ZonedDateTime scheduledAt = ZonedDateTime.now(twice.getZoneId());
+        assertEquals(List.of(scheduledAt.plusDays(1), scheduledAt.plusDays(2)),
+                     twice.nextRunTimes(scheduledAt).collect(Collectors.toList()));
+    }
+
     /**
      * Ensure that the default method for getNextRunTime(LastExecution, Date) can
      * cope with a null being returned by getNextRunTime(LastExecution, ZonedDateTime).
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.enterprise.concurrent.benchmarks;
+
+import jakarta.enterprise.concurrent.Asynchronous;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Access to the <code>CompletableFuture</code> of an asynchronous method, which
+ * {@link Asynchronous.Result} keeps in a <code>ThreadLocal</code>.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1)
+public class AsynchronousResultBenchmark {
+    private final CompletableFuture<String> future = new CompletableFuture<String>();
+
+    @Setup
+    public void setup() {
+        Asynchronous.Result.setFuture(future);
+    }
+
+    @TearDown
+    public void tearDown() {
+        Asynchronous.Result.setFuture(null);
+    }
+
+    @Benchmark
+    public CompletableFuture<String> complete() {
+        return Asynchronous.Result.complete("result");
+    }
+
+    @Benchmark
+    public CompletableFuture<String> getFuture() {
+        return Asynchronous.Result.getFuture();
+    }
+
+    /**
+     * The full lifecycle that a Jakarta EE Product Provider performs around
+     * each asynchronous method invocation.
+     */
+    @Benchmark
+    public CompletableFuture<String> setAndClearFuture() {
+        CompletableFuture<String> f = new CompletableFuture<String>();
+        Asynchronous.Result.setFuture(f);
+        try {
+            return Asynchronous.Result.getFuture();
+        } finally {
+            Asynchronous.Result.setFuture(future);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.enterprise.concurrent.benchmarks;
+
+import jakarta.enterprise.concurrent.CronTrigger;
+import jakarta.enterprise.concurrent.LastExecution;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parsing of cron expressions and computation of the next run time by {@link CronTrigger}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+public class CronTriggerBenchmark {
+    /**
+     * Kind of cron expression.
+     * <ul>
+     * <li>simple - every 15 seconds</li>
+     * <li>sparse - once every leap year</li>
+     * <li>lastAndOrdinal - heavy use of the L and # syntax</li>
+     * <li>dst - hours within the Daylight Saving Time transitions of America/New_York</li>
+     * </ul>
+     */
+    @Param({ "simple", "sparse", "lastAndOrdinal", "dst" })
+    public String kind;
+
+    private String cron;
+    private ZonedDateTime from;
+    private Instant fromInstant;
+    private LastExecution lastExecution;
+    private CronTrigger trigger;
+    private ZoneId zone;
+
+    @Setup
+    public void setup() {
+        zone = ZoneId.of("America/New_York");
+        switch (kind) {
+            case "simple":
+                cron = "*/15 * * * * *";
+                break;
+            case "sparse":
+                cron = "0 0 12 29 FEB *";
+                break;
+            case "lastAndOrdinal":
+                cron = "0 30 8,17 13,14,3L,2L,L * MON#1,WED#3,FRI#L";
+                break;
+            case "dst":
+                cron = "0 */20 1-3 * MAR,NOV SUN#1,SUN#2";
+                break;
+            default:
+                throw new IllegalArgumentException(kind);
+        }
+        trigger = new CronTrigger(cron, zone);
+        from = ZonedDateTime.of(2022, 3, 13, 1, 50, 0, 0, zone); // shortly before Daylight Saving Time begins
+        fromInstant = from.toInstant();
+        lastExecution = new LastExecution() {
+            @Override
+            public String getIdentityName() {
+                return "benchmark";
+            }
+
+            @Override
+            public Object getResult() {
+                return null;
+            }
+
+            @Override
+            public ZonedDateTime getScheduledStart(final ZoneId zone) {
+                return from.withZoneSameInstant(zone);
+            }
+
+            @Override
+            public ZonedDateTime getRunStart(final ZoneId zone) {
+                return from.withZoneSameInstant(zone);
+            }
+
+            @Override
+            public ZonedDateTime getRunEnd(final ZoneId zone) {
+                return from.withZoneSameInstant(zone);
+            }
+        };
+    }
+
+    @Benchmark
+    public ZonedDateTime nextRunTime() {
+        return trigger.getNextRunTime(lastExecution, from);
+    }
+
+    @Benchmark
+    public Instant nextRunTimeInstant() {
+        return trigger.getNextRunTime(null, fromInstant);
+    }
+
+    @Benchmark
+    public CronTrigger of() {
+        return CronTrigger.of(cron, zone);
+    }
+
+    @Benchmark
+    public CronTrigger parse() {
+        return new CronTrigger(cron, zone);
+    }
+}
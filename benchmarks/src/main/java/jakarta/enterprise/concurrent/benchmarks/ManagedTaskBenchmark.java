@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.enterprise.concurrent.benchmarks;
+
+import jakarta.enterprise.concurrent.ManagedExecutorService;
+import jakarta.enterprise.concurrent.ManagedExecutors;
+import jakarta.enterprise.concurrent.ManagedTask;
+import jakarta.enterprise.concurrent.ManagedTaskListener;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Wrapping of tasks by {@link ManagedExecutors#managedTask} and
+ * reading the execution properties of the wrapped task.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+public class ManagedTaskBenchmark {
+    private final Callable<String> callable = () -> "result";
+
+    private final Map<String, String> executionProperties = Map.of(
+            ManagedTask.IDENTITY_NAME, "benchmark",
+            ManagedTask.LONGRUNNING_HINT, "false");
+
+    private final ManagedTaskListener listener = new ManagedTaskListener() {
+        @Override
+        public void taskSubmitted(final Future<?> future, final ManagedExecutorService executor, final Object task) {
+        }
+
+        @Override
+        public void taskAborted(final Future<?> future, final ManagedExecutorService executor, final Object task,
+                                final Throwable exception) {
+        }
+
+        @Override
+        public void taskDone(final Future<?> future, final ManagedExecutorService executor, final Object task,
+                             final Throwable exception) {
+        }
+
+        @Override
+        public void taskStarting(final Future<?> future, final ManagedExecutorService executor, final Object task) {
+        }
+    };
+
+    private final Runnable runnable = () -> { };
+
+    private final ManagedExecutors.ManagedTaskTemplate template =
+            ManagedExecutors.managedTaskTemplate(executionProperties, listener);
+
+    @Benchmark
+    public Callable<String> callableWithListener() {
+        return ManagedExecutors.managedTask(callable, listener);
+    }
+
+    @Benchmark
+    public Callable<String> callableWithProperties() {
+        return ManagedExecutors.managedTask(callable, executionProperties, listener);
+    }
+
+    @Benchmark
+    public String executionProperty() {
+        Runnable task = ManagedExecutors.managedTask(runnable, executionProperties, listener);
+        return ((ManagedTask) task).getExecutionProperties().get(ManagedTask.IDENTITY_NAME);
+    }
+
+    @Benchmark
+    public Runnable runnableWithListener() {
+        return ManagedExecutors.managedTask(runnable, listener);
+    }
+
+    @Benchmark
+    public Runnable runnableWithProperties() {
+        return ManagedExecutors.managedTask(runnable, executionProperties, listener);
+    }
+
+    @Benchmark
+    public Runnable runnableFromTemplate() {
+        return template.managedTask(runnable);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.enterprise.concurrent.benchmarks;
+
+import jakarta.enterprise.concurrent.CronTrigger;
+import jakarta.enterprise.concurrent.LastExecution;
+import jakarta.enterprise.concurrent.Trigger;
+import jakarta.enterprise.concurrent.ZonedTrigger;
+
+import java.time.ZonedDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Bridging of the {@link Trigger} methods that accept and return <code>Date</code>
+ * to the {@link ZonedTrigger} methods that accept and return <code>ZonedDateTime</code>.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+public class ZonedTriggerBenchmark {
+    private final Trigger cronTrigger = new CronTrigger("0 0 * * * *", ZoneId.of("America/Chicago"));
+
+    private final Date scheduledAt = new Date(1650000000000L);
+
+    private final Trigger zonedTrigger = new ZonedTrigger() {
+        private final ZoneId zone = ZoneId.of("America/Chicago");
+
+        @Override
+        public ZoneId getZoneId() {
+            return zone;
+        }
+
+        @Override
+        public ZonedDateTime getNextRunTime(final LastExecution lastExecution, final ZonedDateTime taskScheduledTime) {
+            return taskScheduledTime.truncatedTo(ChronoUnit.HOURS).plusHours(1);
+        }
+    };
+
+    @Benchmark
+    public Date cronTriggerNextRunTime() {
+        return cronTrigger.getNextRunTime(null, scheduledAt);
+    }
+
+    @Benchmark
+    public Date zonedTriggerNextRunTime() {
+        return zonedTrigger.getNextRunTime(null, scheduledAt);
+    }
+
+    @Benchmark
+    public boolean zonedTriggerSkipRun() {
+        return zonedTrigger.skipRun(null, scheduledAt);
+    }
+}
@@ -18,6 +18,13 @@ package ee.jakarta.tck.concurrent.api.ContextService;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.naming.InitialContext;
+import javax.naming.NamingException;
 
 import org.jboss.arquillian.container.test.api.Deployment;
 import org.jboss.shrinkwrap.api.ShrinkWrap;
@@ -25,8 +32,10 @@ import org.jboss.shrinkwrap.api.spec.WebArchive;
 import org.testng.annotations.Test;
 
 import ee.jakarta.tck.concurrent.framework.ArquillianTests;
+import ee.jakarta.tck.concurrent.framework.TestConstants;
 import ee.jakarta.tck.concurrent.framework.TestLogger;
 import ee.jakarta.tck.concurrent.framework.TestUtil;
+import jakarta.enterprise.concurrent.ManagedTask;
 import jakarta.enterprise.concurrent.ManagedTaskListener;
 
 public class ContextServiceTests extends ArquillianTests {
@@ -380,4 +389,63 @@ public class ContextServiceTests extends ArquillianTests {
 		}
 		assertTrue(pass);
 	}
+
+	/*
+	 * @testName: DirectProxyHint
+	 * 
+	 * @assertion_ids: CONCURRENCY:JAVADOC:48
+	 * 
+	 * @test_Strategy: Lookup default ContextService object and create proxy objects
+	 * using the DIRECT_PROXY_HINT execution property. Verify that a proxy for multiple
+	 * interfaces implements and invokes the interfaces, that a proxy method which runs
+	 * on an unmanaged thread has the application context of the thread that created
+	 * the proxy, and that the execution properties are retrieved from the proxy unchanged.
+	 * Verify that two proxies created with the hint for the same interfaces, in the same
+	 * order, are instances of the same class. Whether the proxy is an instance of
+	 * java.lang.reflect.Proxy is not verified, because DIRECT_PROXY_HINT is only a hint.
+	 */
+	@Test
+	public void DirectProxyHint() throws Exception {
+		Map<String, String> execProps = new HashMap<String, String>();
+		execProps.put(ManagedTask.DIRECT_PROXY_HINT, "true");
+		execProps.put("vendor_a.security.tokenexpiration", "15000");
+
+		Object proxy = TestUtil.getContextService().createContextualProxy(new TestRunnableWork(), execProps,
+				Runnable.class, TestWorkInterface.class);
+
+		assertTrue("Proxy must implement Runnable", proxy instanceof Runnable);
+		assertTrue("Proxy must implement TestWorkInterface", proxy instanceof TestWorkInterface);
+		assertEquals("Unexpected result of proxy method", "pass", ((TestWorkInterface) proxy).doSomeWork());
+		((Runnable) proxy).run();
+
+		Object proxy2 = TestUtil.getContextService().createContextualProxy(new TestRunnableWork(), execProps,
+				Runnable.class, TestWorkInterface.class);
+		assertTrue("Proxies must be distinct instances", proxy != proxy2);
+		assertTrue("Proxies for the same interfaces in the same order must be instances of the same class",
+				proxy.getClass() == proxy2.getClass());
+
+		TestWorkInterface lookupProxy = TestUtil.getContextService().createContextualProxy(() -> {
+			try {
+				InitialContext.doLookup(TestConstants.DefaultContextService);
+				return "pass";
+			} catch (NamingException x) {
+				return "application context not propagated: " + x;
+			}
+		}, execProps, TestWorkInterface.class);
+
+		ExecutorService unmanagedThreads = Executors.newSingleThreadExecutor();
+		try {
+			Future<String> future = unmanagedThreads.submit(lookupProxy::doSomeWork);
+			assertEquals("Proxy method must run with the application context of the thread that created the proxy",
+					"pass", future.get(TestConstants.WaitTimeout.getSeconds(), TimeUnit.SECONDS));
+		} finally {
+			unmanagedThreads.shutdown();
+		}
+
+		Map<String, String> returnedExecProps = TestUtil.getContextService().getExecutionProperties(proxy);
+		assertEquals("Unexpected DIRECT_PROXY_HINT execution property", "true",
+				returnedExecProps.get(ManagedTask.DIRECT_PROXY_HINT));
+		assertEquals("Unexpected vendor_a.security.tokenexpiration execution property", "15000",
+				returnedExecProps.get("vendor_a.security.tokenexpiration"));
+	}
 }
@@ -18,18 +18,27 @@ package ee.jakarta.tck.concurrent.spec.ManagedExecutorService.resourcedef;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Exchanger;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 import javax.naming.InitialContext;
 import javax.naming.NamingException;
@@ -39,8 +48,12 @@ import ee.jakarta.tck.concurrent.common.context.StringContext;
 import ee.jakarta.tck.concurrent.framework.TestServlet;
 import ee.jakarta.tck.concurrent.spec.ContextService.contextPropagate.ContextServiceDefinitionServlet;
 import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.AbortedException;
 import jakarta.enterprise.concurrent.ManagedExecutorDefinition;
 import jakarta.enterprise.concurrent.ManagedExecutorService;
+import jakarta.enterprise.concurrent.ManagedExecutors;
+import jakarta.enterprise.concurrent.ManagedTask;
+import jakarta.enterprise.concurrent.RejectionPolicy;
 import jakarta.inject.Inject;
 import jakarta.servlet.annotation.WebServlet;
 import jakarta.transaction.Status;
@@ -57,6 +70,25 @@ import jakarta.transaction.UserTransaction;
                            context = "java:module/concurrent/ContextB",
                            maxAsync = 1)
 @ManagedExecutorDefinition(name = "java:comp/concurrent/ExecutorC")
+@ManagedExecutorDefinition(name = "java:comp/concurrent/ExecutorD",
+                           maxAsync = 1,
+                           maxQueued = 1)
+@ManagedExecutorDefinition(name = "java:comp/concurrent/ExecutorE",
+                           context = "java:app/concurrent/ContextA",
+                           maxAsync = 1,
+                           maxQueued = 1,
+                           rejectionPolicy = RejectionPolicy.CALLER_RUNS)
+@ManagedExecutorDefinition(name = "java:comp/concurrent/ExecutorF",
+                           maxAsync = 1,
+                           maxQueued = 1,
+                           rejectionPolicy = RejectionPolicy.BLOCK_WITH_TIMEOUT,
+                           queueTimeout = 2000)
+@ManagedExecutorDefinition(name = "java:comp/concurrent/ExecutorG",
+                           maxAsync = 1,
+                           maxQueued = 1,
+                           rejectionPolicy = RejectionPolicy.DROP_OLDEST)
+@ManagedExecutorDefinition(name = "java:comp/concurrent/ExecutorH",
+                           maxAsync = 1)
 @WebServlet("/ManagedExecutorDefinitionServlet")
 public class ManagedExecutorDefinitionServlet extends TestServlet {
     private static final long serialVersionUID = 1L;
@@ -499,4 +531,350 @@ public class ManagedExecutorDefinitionServlet extends TestServlet {
             tx.rollback();
         }
     }
+
+    /**
+     * A ManagedExecutorDefinition with maxQueued and the default rejection policy rejects
+     * a task that is submitted when maxAsync tasks are running and maxQueued tasks are waiting,
+     * and runs the waiting task once a running task completes.
+     */
+    public void testManagedExecutorDefinitionMaxQueued() throws Throwable {
+        ManagedExecutorService executor = InitialContext.doLookup("java:comp/concurrent/ExecutorD");
+
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch running = new CountDownLatch(1);
+
+        Callable<Integer> blockingTask = () -> {
+            running.countDown();
+            return blocker.await(MAX_WAIT_SECONDS * 5, TimeUnit.SECONDS) ? 1 : 0;
+        };
+
+        Future<Integer> future1;
+        Future<Integer> future2;
+        try {
+            future1 = executor.submit(blockingTask);
+
+            assertTrue(running.await(MAX_WAIT_SECONDS, TimeUnit.SECONDS),
+                       "ManagedExecutorService with maxAsync=1 must be able to run an async task.");
+
+            future2 = executor.submit(() -> 2);
+
+            try {
+                Future<Integer> future3 = executor.submit(() -> 3);
+                throw new AssertionError("ManagedExecutorService with maxAsync=1 and maxQueued=1 must reject " +
+                                         "a 3rd task per the ABORT rejection policy. Instead: " + future3);
+            } catch (RejectedExecutionException x) {
+                // expected
+            }
+
+            CompletableFuture<Integer> future4 = executor.supplyAsync(() -> 4);
+            try {
+                Integer result = future4.join();
+                throw new AssertionError("ManagedExecutorService with maxAsync=1 and maxQueued=1 must reject " +
+                                         "a 4th action per the ABORT rejection policy. Instead: " + result);
+            } catch (CompletionException x) {
+                if (!(x.getCause() instanceof RejectedExecutionException))
+                    throw x;
+            }
+        } finally {
+            blocker.countDown();
+        }
+
+        assertEquals(future1.get(MAX_WAIT_SECONDS, TimeUnit.SECONDS), Integer.valueOf(1),
+                     "ManagedExecutorService must complete the task that was running.");
+
+        assertEquals(future2.get(MAX_WAIT_SECONDS, TimeUnit.SECONDS), Integer.valueOf(2),
+                     "ManagedExecutorService must run the queued task after the running task completes.");
+
+        assertEquals(executor.submit(() -> 5).get(MAX_WAIT_SECONDS, TimeUnit.SECONDS), Integer.valueOf(5),
+                     "ManagedExecutorService must accept tasks again once there is room in the queue.");
+    }
+
+    /**
+     * A ManagedExecutorDefinition with maxQueued and the BLOCK_WITH_TIMEOUT rejection policy
+     * blocks the thread that submits a task when maxAsync tasks are running and maxQueued
+     * tasks are waiting, for the queueTimeout, after which it rejects the task.
+     */
+    public void testManagedExecutorDefinitionMaxQueuedBlockWithTimeout() throws Throwable {
+        ManagedExecutorService executor = InitialContext.doLookup("java:comp/concurrent/ExecutorF");
+
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch running = new CountDownLatch(1);
+
+        Callable<Integer> blockingTask = () -> {
+            running.countDown();
+            return blocker.await(MAX_WAIT_SECONDS * 5, TimeUnit.SECONDS) ? 1 : 0;
+        };
+
+        Future<Integer> future1;
+        Future<Integer> future2;
+        try {
+            future1 = executor.submit(blockingTask);
+
+            assertTrue(running.await(MAX_WAIT_SECONDS, TimeUnit.SECONDS),
+                       "ManagedExecutorService with maxAsync=1 must be able to run an async task.");
+
+            future2 = executor.submit(() -> 2);
+
+            long start = System.nanoTime();
+            try {
+                Future<Integer> future3 = executor.submit(() -> 3);
+                throw new AssertionError("ManagedExecutorService with maxAsync=1 and maxQueued=1 must reject " +
+                                         "a 3rd task after the queueTimeout per the BLOCK_WITH_TIMEOUT " +
+                                         "rejection policy. Instead: " + future3);
+            } catch (RejectedExecutionException x) {
+                // expected
+            }
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            assertTrue(elapsedMillis >= 1900,
+                       "ManagedExecutorService must block the submitting thread for the queueTimeout of " +
+                       "2000 ms before rejecting a task per the BLOCK_WITH_TIMEOUT rejection policy. " +
+                       "Instead it blocked for " + elapsedMillis + " ms.");
+
+            assertTrue(elapsedMillis < TimeUnit.SECONDS.toMillis(MAX_WAIT_SECONDS),
+                       "ManagedExecutorService must reject a task once the queueTimeout of 2000 ms elapses " +
+                       "per the BLOCK_WITH_TIMEOUT rejection policy. Instead it blocked for " +
+                       elapsedMillis + " ms.");
+        } finally {
+            blocker.countDown();
+        }
+
+        assertEquals(future1.get(MAX_WAIT_SECONDS, TimeUnit.SECONDS), Integer.valueOf(1),
+                     "ManagedExecutorService must complete the task that was running.");
+
+        assertEquals(future2.get(MAX_WAIT_SECONDS, TimeUnit.SECONDS), Integer.valueOf(2),
+                     "ManagedExecutorService must run the queued task after the running task completes.");
+    }
+
+    /**
+     * A ManagedExecutorDefinition with maxQueued and the CALLER_RUNS rejection policy runs
+     * a task that is submitted when maxAsync tasks are running and maxQueued tasks are waiting
+     * on the submitting thread, before the submit method returns, with the thread context
+     * that is configured for the executor.
+     */
+    public void testManagedExecutorDefinitionMaxQueuedCallerRuns() throws Throwable {
+        ManagedExecutorService executor = InitialContext.doLookup("java:comp/concurrent/ExecutorE");
+
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch running = new CountDownLatch(1);
+
+        Callable<Thread> blockingTask = () -> {
+            running.countDown();
+            blocker.await(MAX_WAIT_SECONDS * 5, TimeUnit.SECONDS);
+            return Thread.currentThread();
+        };
+
+        Future<Thread> future1;
+        Future<Thread> future2;
+        try {
+            IntContext.set(47);
+            StringContext.set("testManagedExecutorDefinitionMaxQueuedCallerRuns-1");
+
+            future1 = executor.submit(blockingTask);
+
+            assertTrue(running.await(MAX_WAIT_SECONDS, TimeUnit.SECONDS),
+                       "ManagedExecutorService with maxAsync=1 must be able to run an async task.");
+
+            future2 = executor.submit(Thread::currentThread);
+
+            Future<Object[]> future3 = executor.submit(() -> new Object[] {
+                Thread.currentThread(), IntContext.get(), StringContext.get()
+            });
+
+            assertTrue(future3.isDone(),
+                       "ManagedExecutorService with maxAsync=1 and maxQueued=1 must run a 3rd task " +
+                       "before the submit method returns per the CALLER_RUNS rejection policy.");
+
+            Object[] results = future3.get();
+
+            assertEquals(results[0], Thread.currentThread(),
+                         "ManagedExecutorService must run a 3rd task on the submitting thread " +
+                         "per the CALLER_RUNS rejection policy.");
+
+            assertEquals(results[1], Integer.valueOf(47),
+                         "ManagedExecutorService must propagate IntContext to a task that runs on the " +
+                         "submitting thread per the CALLER_RUNS rejection policy and ContextServiceDefinition.");
+
+            assertEquals(results[2], "",
+                         "ManagedExecutorService must clear StringContext for a task that runs on the " +
+                         "submitting thread per the CALLER_RUNS rejection policy and ContextServiceDefinition.");
+
+            assertEquals(StringContext.get(), "testManagedExecutorDefinitionMaxQueuedCallerRuns-1",
+                         "ManagedExecutorService must restore the StringContext of the submitting thread " +
+                         "after running a task on it per the CALLER_RUNS rejection policy.");
+        } finally {
+            IntContext.set(0);
+            StringContext.set(null);
+            blocker.countDown();
+        }
+
+        assertTrue(future1.get(MAX_WAIT_SECONDS, TimeUnit.SECONDS) != Thread.currentThread(),
+                   "ManagedExecutorService must run the first task asynchronously.");
+
+        assertTrue(future2.get(MAX_WAIT_SECONDS, TimeUnit.SECONDS) != Thread.currentThread(),
+                   "ManagedExecutorService must run the queued task asynchronously.");
+    }
+
+    /**
+     * A ManagedExecutorDefinition with maxQueued and the DROP_OLDEST rejection policy aborts
+     * the task that has waited longest in the queue to make room for a task that is submitted
+     * when maxAsync tasks are running and maxQueued tasks are waiting, and runs the new task.
+     */
+    public void testManagedExecutorDefinitionMaxQueuedDropOldest() throws Throwable {
+        ManagedExecutorService executor = InitialContext.doLookup("java:comp/concurrent/ExecutorG");
+
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch running = new CountDownLatch(1);
+
+        Callable<Integer> blockingTask = () -> {
+            running.countDown();
+            return blocker.await(MAX_WAIT_SECONDS * 5, TimeUnit.SECONDS) ? 1 : 0;
+        };
+
+        Future<Integer> future1;
+        Future<Integer> future2;
+        Future<Integer> future3;
+        try {
+            future1 = executor.submit(blockingTask);
+
+            assertTrue(running.await(MAX_WAIT_SECONDS, TimeUnit.SECONDS),
+                       "ManagedExecutorService with maxAsync=1 must be able to run an async task.");
+
+            future2 = executor.submit(() -> 2);
+
+            future3 = executor.submit(() -> 3);
+
+            try {
+                Integer result = future2.get(MAX_WAIT_SECONDS, TimeUnit.SECONDS);
+                throw new AssertionError("ManagedExecutorService with maxAsync=1 and maxQueued=1 must abort " +
+                                         "the queued task when a 3rd task is submitted per the DROP_OLDEST " +
+                                         "rejection policy. Instead: " + result);
+            } catch (AbortedException x) {
+                assertTrue(x.getCause() instanceof RejectedExecutionException,
+                           "The Future of a task that is aborted per the DROP_OLDEST rejection policy must " +
+                           "raise AbortedException with a RejectedExecutionException cause. Instead: " + x);
+            }
+        } finally {
+            blocker.countDown();
+        }
+
+        assertEquals(future1.get(MAX_WAIT_SECONDS, TimeUnit.SECONDS), Integer.valueOf(1),
+                     "ManagedExecutorService must complete the task that was running.");
+
+        assertEquals(future3.get(MAX_WAIT_SECONDS, TimeUnit.SECONDS), Integer.valueOf(3),
+                     "ManagedExecutorService must run the new task in place of the aborted task.");
+    }
+
+    /**
+     * A ManagedExecutorService that is at its maxAsync limit starts a waiting task with
+     * a higher PRIORITY execution property before a waiting task with a lower PRIORITY
+     * that was submitted earlier, and starts waiting tasks with the same PRIORITY
+     * in the order in which they were submitted.
+     */
+    public void testManagedExecutorDefinitionPriority() throws Throwable {
+        ManagedExecutorService executor = InitialContext.doLookup("java:comp/concurrent/ExecutorH");
+
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch running = new CountDownLatch(1);
+        BlockingQueue<String> started = new LinkedBlockingQueue<String>();
+
+        Future<?> future1;
+        List<Future<?>> futures = new ArrayList<Future<?>>();
+        try {
+            future1 = executor.submit(() -> {
+                running.countDown();
+                return blocker.await(MAX_WAIT_SECONDS * 5, TimeUnit.SECONDS);
+            });
+
+            assertTrue(running.await(MAX_WAIT_SECONDS, TimeUnit.SECONDS),
+                       "ManagedExecutorService with maxAsync=1 must be able to run an async task.");
+
+            String[][] tasks = {
+                { "low", ManagedTask.MIN_PRIORITY },
+                { "normal1", ManagedTask.NORM_PRIORITY },
+                { "high", ManagedTask.MAX_PRIORITY },
+                { "normal2", ManagedTask.NORM_PRIORITY }
+            };
+            for (String[] task : tasks) {
+                Runnable action = () -> started.add(task[0]);
+                futures.add(executor.submit(ManagedExecutors.managedTask(action,
+                        Map.of(ManagedTask.PRIORITY, task[1]), null)));
+            }
+        } finally {
+            blocker.countDown();
+        }
+
+        future1.get(MAX_WAIT_SECONDS, TimeUnit.SECONDS);
+        for (Future<?> future : futures) {
+            future.get(MAX_WAIT_SECONDS, TimeUnit.SECONDS);
+        }
+
+        assertEquals(new ArrayList<String>(started), List.of("high", "normal1", "normal2", "low"),
+                     "ManagedExecutorService must start waiting tasks in order of their PRIORITY " +
+                     "execution property, and tasks of the same PRIORITY in the order submitted.");
+    }
+
+    /**
+     * ManagedExecutorService.parallel runs the parallel stream operations of an action
+     * on no more managed threads than the maxAsync of the executor, with the thread context
+     * of the thread that invokes parallel, per ManagedExecutorDefinition config.
+     */
+    public void testParallel() throws Throwable {
+        ManagedExecutorService executor = InitialContext.doLookup("java:app/concurrent/ExecutorA");
+
+        Thread servletThread = Thread.currentThread();
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        Set<String> results;
+        try {
+            IntContext.set(31);
+            StringContext.set("testParallel-1");
+
+            results = executor.parallel(() -> IntStream.range(0, 1000)
+                    .parallel()
+                    .mapToObj(i -> {
+                        if (Thread.currentThread() != servletThread)
+                            threads.add(Thread.currentThread());
+                        String status;
+                        try {
+                            ManagedExecutorService mes = InitialContext.doLookup("java:app/concurrent/ExecutorA");
+                            status = "Application context " + (mes == null ? "incorrect" : "propagated");
+                        } catch (NamingException x) {
+                            status = "Application context not propagated: " + x;
+                        }
+                        int n = IntContext.get();
+                        String str = StringContext.get();
+                        return status + ";IntContext " + (n == 31 ? "propagated" : "incorrect:" + n) +
+                               ";StringContext " + ("".equals(str) ? "cleared" : "incorrect:" + str);
+                    })
+                    .collect(Collectors.toSet()));
+        } finally {
+            IntContext.set(0);
+            StringContext.set(null);
+        }
+
+        assertEquals(results, Set.of("Application context propagated;IntContext propagated;StringContext cleared"),
+                     "Application context and IntContext must be propagated and StringContext must be cleared " +
+                     "for parallel stream operations per ManagedExecutorDefinition and " +
+                     "ContextServiceDefinition config.");
+
+        assertTrue(threads.size() <= 2,
+                   "ManagedExecutorService with maxAsync=2 must not run parallel stream operations on more than " +
+                   "2 threads. Instead: " + threads);
+
+        Set<Thread> boundedThreads = ConcurrentHashMap.newKeySet();
+        long sum = executor.parallel(1, () -> LongStream.range(0, 1000)
+                .parallel()
+                .peek(i -> {
+                    if (Thread.currentThread() != servletThread)
+                        boundedThreads.add(Thread.currentThread());
+                })
+                .sum());
+
+        assertEquals(sum, 499500L,
+                     "ManagedExecutorService.parallel must return the result of the action.");
+
+        assertTrue(boundedThreads.size() <= 1,
+                   "ManagedExecutorService.parallel with maxParallelism=1 must not run parallel stream operations " +
+                   "on more than 1 thread. Instead: " + boundedThreads);
+    }
 }
@@ -141,4 +141,34 @@ public class ManagedExecutorDefinitionTests extends TestClient{
     	runTest(baseURL);
     }
 
+	@Test
+    public void testManagedExecutorDefinitionMaxQueued() {
+    	runTest(baseURL);
+    }
+
+	@Test
+    public void testManagedExecutorDefinitionMaxQueuedBlockWithTimeout() {
+    	runTest(baseURL);
+    }
+
+	@Test
+    public void testManagedExecutorDefinitionMaxQueuedCallerRuns() {
+    	runTest(baseURL);
+    }
+
+	@Test
+    public void testManagedExecutorDefinitionMaxQueuedDropOldest() {
+    	runTest(baseURL);
+    }
+
+	@Test
+    public void testManagedExecutorDefinitionPriority() {
+    	runTest(baseURL);
+    }
+
+	@Test
+    public void testParallel() {
+    	runTest(baseURL);
+    }
+
 }